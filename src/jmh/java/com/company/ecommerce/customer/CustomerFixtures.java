@@ -0,0 +1,55 @@
+package com.company.ecommerce.customer;
+
+import com.company.ecommerce.customer.dto.AddressRequest;
+import com.company.ecommerce.customer.dto.AddressResponse;
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.entity.Address;
+import com.company.ecommerce.customer.entity.Customer;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+public final class CustomerFixtures {
+
+    private CustomerFixtures() {
+    }
+
+    public static CustomerRequest customerRequest() {
+        return new CustomerRequest(
+                "Peter",
+                "Larson",
+                "plarson@gmail.com",
+                "+51 962329330",
+                new AddressRequest("218 Newbury Street", "California", "Florida", "16077", "USA")
+        );
+    }
+
+    public static Customer customer(String id) {
+        var address = new Address();
+        address.setStreet("218 Newbury Street");
+        address.setCity("California");
+        address.setState("Florida");
+        address.setZipCode("16077");
+        address.setCountry("USA");
+
+        var customer = new Customer();
+        customer.setId(id);
+        customer.setFirstName("Peter");
+        customer.setLastName("Larson");
+        customer.setEmail("plarson@gmail.com");
+        customer.setPhoneNumber("+51 962329330");
+        customer.setAddress(address);
+        customer.setVersion(0);
+        return customer;
+    }
+
+    public static List<CustomerResponse> customerResponses(int size) {
+        var addressResponse = new AddressResponse("218 Newbury Street", "California", "Florida", "16077", "USA");
+        return IntStream.range(0, size)
+                .mapToObj(index -> new CustomerResponse("66aeee840271a2600f91%04x".formatted(index),
+                        "Peter", "Larson", "plarson" + index + "@gmail.com", "+51 962329330", addressResponse))
+                .toList();
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.company.ecommerce.customer.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.company.ecommerce.customer.CustomerFixtures;
+import com.company.ecommerce.customer.cache.CustomerCache;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.mapper.CustomerMapper;
+import com.company.ecommerce.customer.properties.CustomerCacheProperties;
+import com.company.ecommerce.customer.properties.LoggingProperties;
+import com.company.ecommerce.customer.repository.CustomerRepository;
+import com.company.ecommerce.customer.service.CustomerService;
+import com.company.ecommerce.customer.service.impl.CustomerServiceImpl;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingAspectBenchmark {
+
+    private static final String CUSTOMER_ID = "66aeee840271a2600f91d799";
+
+    @Param({ "INFO", "DEBUG" })
+    private String level;
+
+    private CustomerService customerService;
+    private CustomerService proxiedCustomerService;
+    private CustomerService loggedCustomerService;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(LoggingAspect.class)).setLevel(Level.valueOf(level));
+
+        var customer = CustomerFixtures.customer(CUSTOMER_ID);
+        var customerRepository = (CustomerRepository) Proxy.newProxyInstance(
+                CustomerRepository.class.getClassLoader(), new Class<?>[] { CustomerRepository.class },
+                (proxy, method, args) -> "findById".equals(method.getName()) ? Optional.of(customer) : null);
+        customerService = new CustomerServiceImpl(null, Mappers.getMapper(CustomerMapper.class), null,
+                customerRepository, new CustomerCache(new CustomerCacheProperties(100, Duration.ofMinutes(10))),
+                null, null, null, null, null);
+
+        proxiedCustomerService = new AspectJProxyFactory(customerService).getProxy();
+
+        var proxyFactory = new AspectJProxyFactory(customerService);
+        proxyFactory.addAspect(new LoggingAspect(new LoggingProperties(100, Duration.ofMillis(500))));
+        loggedCustomerService = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public CustomerResponse direct() {
+        return customerService.findCustomerById(CUSTOMER_ID);
+    }
+
+    @Benchmark
+    public CustomerResponse proxied() {
+        return proxiedCustomerService.findCustomerById(CUSTOMER_ID);
+    }
+
+    @Benchmark
+    public CustomerResponse logged() {
+        return loggedCustomerService.findCustomerById(CUSTOMER_ID);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.company.ecommerce.customer.authorization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MethodAuthorizationBenchmark {
+
+    public enum Authorities {
+        FIRST_GRANTED, LAST_GRANTED, DENIED
+    }
+
+    @Param
+    private Authorities authorities;
+
+    private PreAuthorizeAuthorizationManager preAuthorizeAuthorizationManager;
+    private HasAnyAuthorityAuthorizationManager hasAnyAuthorityAuthorizationManager;
+    private SimpleMethodInvocation preAuthorizeInvocation;
+    private SimpleMethodInvocation hasAnyAuthorityInvocation;
+    private Authentication authentication;
+
+    @PreAuthorize("hasAnyAuthority('ADMINISTRATOR', 'CUSTOMER MANAGER')")
+    public static class PreAuthorizeController {
+
+        public String findCustomerById(String id) {
+            return id;
+        }
+
+    }
+
+    @HasAnyAuthority({ "ADMINISTRATOR", "CUSTOMER MANAGER" })
+    public static class HasAnyAuthorityController {
+
+        public String findCustomerById(String id) {
+            return id;
+        }
+
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        var grantedAuthorities = switch (authorities) {
+            case FIRST_GRANTED -> AuthorityUtils.createAuthorityList("CUSTOMER MANAGER", "AUDITOR", "SUPPORT");
+            case LAST_GRANTED -> AuthorityUtils.createAuthorityList("AUDITOR", "SUPPORT", "CUSTOMER MANAGER");
+            case DENIED -> AuthorityUtils.createAuthorityList("AUDITOR", "SUPPORT", "SALES");
+        };
+        var jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("00u1a2b3c4d5e6f7g8h9")
+                .build();
+        authentication = new JwtAuthenticationToken(jwt, grantedAuthorities);
+
+        preAuthorizeAuthorizationManager = new PreAuthorizeAuthorizationManager();
+        hasAnyAuthorityAuthorizationManager = new HasAnyAuthorityAuthorizationManager();
+        preAuthorizeInvocation = new SimpleMethodInvocation(new PreAuthorizeController(),
+                PreAuthorizeController.class.getMethod("findCustomerById", String.class), "66aeee840271a2600f91d799");
+        hasAnyAuthorityInvocation = new SimpleMethodInvocation(new HasAnyAuthorityController(),
+                HasAnyAuthorityController.class.getMethod("findCustomerById", String.class),
+                "66aeee840271a2600f91d799");
+    }
+
+    @Benchmark
+    public AuthorizationDecision preAuthorize() {
+        return preAuthorizeAuthorizationManager.check(() -> authentication, preAuthorizeInvocation);
+    }
+
+    @Benchmark
+    public AuthorizationDecision hasAnyAuthority() {
+        return hasAnyAuthorityAuthorizationManager.check(() -> authentication, hasAnyAuthorityInvocation);
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.company.ecommerce.customer.dto;
+
+import com.company.ecommerce.customer.CustomerFixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomerPayloadEncodingBenchmark {
+
+    public enum Format {
+        JSON, SMILE, CBOR
+    }
+
+    public enum Compression {
+        NONE, GZIP, DEFLATE
+    }
+
+    @Param({ "50", "500", "5000" })
+    private int size;
+
+    @Param
+    private Format format;
+
+    @Param
+    private Compression compression;
+
+    private ObjectWriter pageWriter;
+    private ObjectWriter itemWriter;
+    private CustomerPageResponse customerPageResponse;
+    private List<CustomerResponse> customerResponses;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireBytes {
+
+        public long wireBytes;
+
+    }
+
+    @Setup
+    public void setUp() {
+        var objectMapper = switch (format) {
+            case JSON -> new ObjectMapper();
+            case SMILE -> new SmileMapper();
+            case CBOR -> new CBORMapper();
+        };
+        pageWriter = objectMapper.writerFor(CustomerPageResponse.class);
+        itemWriter = objectMapper.writerFor(CustomerResponse.class);
+        customerResponses = CustomerFixtures.customerResponses(size);
+        customerPageResponse = new CustomerPageResponse(customerResponses, customerResponses.getLast().id());
+    }
+
+    @Benchmark
+    public byte[] writeCustomerPage(WireBytes counters) throws IOException {
+        var buffer = new ByteArrayOutputStream();
+        try (var outputStream = compress(buffer)) {
+            pageWriter.writeValue(outputStream, customerPageResponse);
+        }
+        counters.wireBytes = buffer.size();
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeCustomerExport(WireBytes counters) throws IOException {
+        var buffer = new ByteArrayOutputStream();
+        try (var outputStream = compress(buffer)) {
+            for (var customerResponse : customerResponses) {
+                outputStream.write(itemWriter.writeValueAsBytes(customerResponse));
+                outputStream.write('\n');
+            }
+        }
+        counters.wireBytes = buffer.size();
+        return buffer.toByteArray();
+    }
+
+    private OutputStream compress(OutputStream outputStream) throws IOException {
+        return switch (compression) {
+            case NONE -> outputStream;
+            case GZIP -> new GZIPOutputStream(outputStream);
+            case DEFLATE -> new DeflaterOutputStream(outputStream);
+        };
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.company.ecommerce.customer.dto;
+
+import com.company.ecommerce.customer.CustomerFixtures;
+import com.company.ecommerce.customer.validation.CachingMessageInterpolator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.beanvalidation.MessageSourceResourceBundleLocator;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomerRequestValidationBenchmark {
+
+    public enum Pipeline {
+        MESSAGE_SOURCE, CACHED_MESSAGES, FAIL_FAST
+    }
+
+    @Param
+    private Pipeline pipeline;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CustomerRequest validCustomerRequest;
+    private CustomerRequest invalidPhoneCustomerRequest;
+    private CustomerRequest invalidCustomerRequest;
+
+    @Setup
+    public void setUp() {
+        var messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("i18n/messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        var messageInterpolator = new ResourceBundleMessageInterpolator(
+                new MessageSourceResourceBundleLocator(messageSource));
+
+        var configuration = Validation.byProvider(HibernateValidator.class).configure();
+        validatorFactory = switch (pipeline) {
+            case MESSAGE_SOURCE -> configuration.messageInterpolator(messageInterpolator).buildValidatorFactory();
+            case CACHED_MESSAGES -> configuration
+                    .messageInterpolator(new CachingMessageInterpolator(messageInterpolator, messageSource))
+                    .buildValidatorFactory();
+            case FAIL_FAST -> configuration
+                    .messageInterpolator(new CachingMessageInterpolator(messageInterpolator, messageSource))
+                    .failFast(true)
+                    .buildValidatorFactory();
+        };
+        validator = validatorFactory.getValidator();
+        validCustomerRequest = CustomerFixtures.customerRequest();
+        invalidPhoneCustomerRequest = new CustomerRequest(
+                validCustomerRequest.firstName(),
+                validCustomerRequest.lastName(),
+                validCustomerRequest.email(),
+                "962-329-330",
+                validCustomerRequest.address()
+        );
+        invalidCustomerRequest = new CustomerRequest(
+                "",
+                "",
+                "plarson",
+                "962-329-330",
+                new AddressRequest("", "California", "", "16077", "USA")
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequest>> validateValidRequest() {
+        return validator.validate(validCustomerRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequest>> validateInvalidPhoneNumber() {
+        return validator.validate(invalidPhoneCustomerRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequest>> validateInvalidRequest() {
+        return validator.validate(invalidCustomerRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequest>> validatePhoneNumberProperty() {
+        return validator.validateProperty(validCustomerRequest, "phoneNumber");
+    }
+
+}
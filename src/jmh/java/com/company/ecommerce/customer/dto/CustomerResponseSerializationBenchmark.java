@@ -0,0 +1,50 @@
+package com.company.ecommerce.customer.dto;
+
+import com.company.ecommerce.customer.CustomerFixtures;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomerResponseSerializationBenchmark {
+
+    @Param({ "1", "50", "500" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter pageWriter;
+    private CustomerPageResponse customerPageResponse;
+    private List<CustomerResponse> customerResponses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        pageWriter = objectMapper.writerFor(CustomerPageResponse.class);
+        customerResponses = CustomerFixtures.customerResponses(size);
+        customerPageResponse = new CustomerPageResponse(customerResponses, customerResponses.getLast().id());
+    }
+
+    @Benchmark
+    public byte[] writeCustomerResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customerResponses);
+    }
+
+    @Benchmark
+    public byte[] writeCustomerPageResponse() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(customerPageResponse);
+    }
+
+}
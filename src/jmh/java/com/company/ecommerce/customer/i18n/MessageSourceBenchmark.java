@@ -0,0 +1,74 @@
+package com.company.ecommerce.customer.i18n;
+
+import com.company.ecommerce.customer.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_NOT_FOUND_KEY;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageSourceBenchmark {
+
+    private static final String CUSTOMER_ID = "66aeee840271a2600f91d799";
+
+    public enum Implementation {
+        RESOURCE_BUNDLE, PRELOADED
+    }
+
+    @Param
+    private Implementation implementation;
+
+    @Param({ "en", "es-PE" })
+    private String languageTag;
+
+    private MessageSource messageSource;
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        messageSource = switch (implementation) {
+            case RESOURCE_BUNDLE -> {
+                var resourceBundleMessageSource = new ResourceBundleMessageSource();
+                resourceBundleMessageSource.setBasename("i18n/messages");
+                resourceBundleMessageSource.setDefaultEncoding("UTF-8");
+                yield resourceBundleMessageSource;
+            }
+            case PRELOADED -> {
+                var messageSourceProperties = new MessageSourceProperties();
+                messageSourceProperties.setBasename("i18n/messages");
+                yield PreloadedMessageSource.load(messageSourceProperties);
+            }
+        };
+        locale = Locale.forLanguageTag(languageTag);
+    }
+
+    @Benchmark
+    public String getMessage() {
+        return messageSource.getMessage(CUSTOMER_NOT_FOUND_KEY, new Object[] { CUSTOMER_ID }, locale);
+    }
+
+    @Benchmark
+    public String getMessageWithoutArguments() {
+        return messageSource.getMessage("message.customer.first-name.required", null, locale);
+    }
+
+    @Benchmark
+    public ResourceNotFoundException resourceNotFound() {
+        return new ResourceNotFoundException(messageSource, CUSTOMER_NOT_FOUND_KEY, CUSTOMER_ID, locale);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.company.ecommerce.customer.mapper;
+
+import com.company.ecommerce.customer.CustomerFixtures;
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.entity.Customer;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomerMapperBenchmark {
+
+    private CustomerMapper customerMapper;
+    private CustomerRequest customerRequest;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        customerMapper = Mappers.getMapper(CustomerMapper.class);
+        customerRequest = CustomerFixtures.customerRequest();
+        customer = CustomerFixtures.customer("66aeee840271a2600f91d799");
+    }
+
+    @Benchmark
+    public Customer mapToCustomer() {
+        return customerMapper.mapToCustomer(customerRequest);
+    }
+
+    @Benchmark
+    public CustomerResponse mapToCustomerResponse() {
+        return customerMapper.mapToCustomerResponse(customer);
+    }
+
+    @Benchmark
+    public Customer mergeCustomer() {
+        customerMapper.mergeCustomer(customerRequest, customer);
+        return customer;
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.company.ecommerce.customer.security;
+
+import com.company.ecommerce.customer.authorization.HasAnyAuthorityAuthorizationManager;
+import com.company.ecommerce.customer.cache.JwkSetCache;
+import com.company.ecommerce.customer.cache.JwtAuthenticationCache;
+import com.company.ecommerce.customer.controller.CustomerController;
+import com.company.ecommerce.customer.converter.OktaRoleConverter;
+import com.company.ecommerce.customer.properties.JwtCacheProperties;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtSecurityBenchmark {
+
+    @Param({ "RS256", "ES256" })
+    private String algorithm;
+
+    private LocalJwtIssuer localJwtIssuer;
+    private String token;
+    private JWSVerifier verifier;
+    private NimbusJwtDecoder jwtDecoder;
+    private Jwt jwt;
+    private OktaRoleConverter oktaRoleConverter;
+    private JwtAuthenticationConverter jwtAuthenticationConverter;
+    private JwtAuthenticationProvider jwtAuthenticationProvider;
+    private JwtAuthenticationCache jwtAuthenticationCache;
+    private Authentication authentication;
+    private HasAnyAuthorityAuthorizationManager hasAnyAuthorityAuthorizationManager;
+    private SimpleMethodInvocation findCustomerById;
+
+    @Setup
+    public void setUp() throws IOException, JOSEException, ParseException {
+        localJwtIssuer = new LocalJwtIssuer();
+        var jwsAlgorithm = JWSAlgorithm.parse(algorithm);
+        token = localJwtIssuer.sign(jwsAlgorithm, "00u1a2b3c4d5e6f7g8h9", List.of("Customer Manager", "Auditor"),
+                Duration.ofHours(1));
+
+        var jwk = JWKSet.load(URI.create(localJwtIssuer.jwkSetUri()).toURL())
+                .getKeyByKeyId(SignedJWT.parse(token).getHeader().getKeyID());
+        verifier = JWSAlgorithm.ES256.equals(jwsAlgorithm)
+                ? new ECDSAVerifier(jwk.toECKey())
+                : new RSASSAVerifier(jwk.toRSAKey());
+
+        var cacheProperties = new JwtCacheProperties(10000, Duration.ofMinutes(5), Duration.ofMinutes(5));
+        jwtDecoder = NimbusJwtDecoder.withIssuerLocation(localJwtIssuer.issuer())
+                .jwsAlgorithm(SignatureAlgorithm.from(algorithm))
+                .cache(new JwkSetCache(cacheProperties))
+                .build();
+        jwtDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(localJwtIssuer.issuer()));
+        jwt = jwtDecoder.decode(token);
+
+        oktaRoleConverter = new OktaRoleConverter();
+        jwtAuthenticationConverter = new JwtAuthenticationConverter();
+        jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(oktaRoleConverter);
+        jwtAuthenticationProvider = new JwtAuthenticationProvider(jwtDecoder);
+        jwtAuthenticationProvider.setJwtAuthenticationConverter(jwtAuthenticationConverter);
+        jwtAuthenticationCache = new JwtAuthenticationCache(cacheProperties);
+        authentication = jwtAuthenticationConverter.convert(jwt);
+
+        hasAnyAuthorityAuthorizationManager = new HasAnyAuthorityAuthorizationManager();
+        findCustomerById = new SimpleMethodInvocation(new CustomerController(null, null),
+                controllerMethod("findCustomerById"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        localJwtIssuer.close();
+    }
+
+    @Benchmark
+    public SignedJWT parse() throws ParseException {
+        return SignedJWT.parse(token);
+    }
+
+    @Benchmark
+    public boolean verifySignature() throws ParseException, JOSEException {
+        return SignedJWT.parse(token).verify(verifier);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> convertAuthorities() {
+        return oktaRoleConverter.convert(jwt);
+    }
+
+    @Benchmark
+    public Authentication convertAuthentication() {
+        return jwtAuthenticationConverter.convert(jwt);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtAuthenticationProvider.authenticate(new BearerTokenAuthenticationToken(token));
+    }
+
+    @Benchmark
+    public Authentication authenticateCached() {
+        return jwtAuthenticationCache.get(token,
+                key -> jwtAuthenticationProvider.authenticate(new BearerTokenAuthenticationToken(key)));
+    }
+
+    @Benchmark
+    public AuthorizationDecision evaluateMethodSecurity() {
+        return hasAnyAuthorityAuthorizationManager.check(() -> authentication, findCustomerById);
+    }
+
+    private static Method controllerMethod(String name) {
+        return Arrays.stream(CustomerController.class.getMethods())
+                .filter(method -> name.equals(method.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+}
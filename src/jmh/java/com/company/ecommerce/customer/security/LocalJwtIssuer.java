@@ -0,0 +1,96 @@
+package com.company.ecommerce.customer.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+public final class LocalJwtIssuer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final JWKSet jwkSet;
+    private final JWSSigner rsaSigner;
+    private final JWSSigner ecSigner;
+    private final String issuer;
+
+    public LocalJwtIssuer() throws IOException, JOSEException {
+        var rsaKey = new RSAKeyGenerator(2048).keyID("rs256").generate();
+        var ecKey = new ECKeyGenerator(Curve.P_256).keyID("es256").generate();
+        this.jwkSet = new JWKSet(List.of(rsaKey, ecKey));
+        this.rsaSigner = new RSASSASigner(rsaKey);
+        this.ecSigner = new ECDSASigner(ecKey);
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.issuer = "http://127.0.0.1:" + server.getAddress().getPort() + "/oauth2/default";
+        server.createContext("/oauth2/default/.well-known/openid-configuration",
+                exchange -> respond(exchange, discoveryDocument()));
+        server.createContext("/oauth2/default/v1/keys",
+                exchange -> respond(exchange, jwkSet.toPublicJWKSet().toString()));
+        server.start();
+    }
+
+    public String issuer() {
+        return issuer;
+    }
+
+    public String jwkSetUri() {
+        return issuer + "/v1/keys";
+    }
+
+    public String sign(JWSAlgorithm algorithm, String subject, List<String> roles, Duration timeToLive)
+            throws JOSEException {
+        var now = Instant.now();
+        var claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(subject)
+                .audience("api://default")
+                .claim("roles", roles)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(timeToLive)))
+                .build();
+        var keyId = JWSAlgorithm.ES256.equals(algorithm) ? "es256" : "rs256";
+        var jwt = new SignedJWT(new JWSHeader.Builder(algorithm).keyID(keyId).build(), claims);
+        jwt.sign(JWSAlgorithm.ES256.equals(algorithm) ? ecSigner : rsaSigner);
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private String discoveryDocument() {
+        return """
+                {"issuer":"%s","jwks_uri":"%s","id_token_signing_alg_values_supported":["RS256","ES256"]}"""
+                .formatted(issuer, jwkSetUri());
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        var bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (var outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+}
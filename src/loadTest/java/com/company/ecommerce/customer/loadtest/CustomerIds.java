@@ -0,0 +1,48 @@
+package com.company.ecommerce.customer.loadtest;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class CustomerIds {
+
+    private static final int MAX_ATTEMPTS = 16;
+
+    private final Map<Integer, String> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    void add(String id) {
+        slots.put(nextSlot.getAndIncrement(), id);
+    }
+
+    Optional<String> any() {
+        return pick(false);
+    }
+
+    Optional<String> take() {
+        return pick(true);
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    private Optional<String> pick(boolean remove) {
+        var bound = nextSlot.get();
+        if (bound == 0) {
+            return Optional.empty();
+        }
+        var random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            var slot = random.nextInt(bound);
+            var id = remove ? slots.remove(slot) : slots.get(slot);
+            if (id != null) {
+                return Optional.of(id);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.company.ecommerce.customer.loadtest;
+
+import com.company.ecommerce.customer.dto.AddressRequest;
+import com.company.ecommerce.customer.dto.BulkCustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+final class LoadDriver {
+
+    private static final String CUSTOMERS_PATH = "/api/customers";
+    private static final int SEED_CHUNK_SIZE = 500;
+    private static final int LIST_PAGE_SIZE = 50;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final String LATENCY_MODEL = "open loop: each client sends at a constant rate and latency is "
+            + "measured from the scheduled send time, so time spent queued behind a slow response is included";
+
+    private final URI baseUri;
+    private final String token;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final CustomerIds customerIds = new CustomerIds();
+    private final AtomicLong emailSequence = new AtomicLong();
+    private final Operation[] operationTable;
+
+    LoadDriver(URI baseUri, String token, LoadTestSettings settings) {
+        this.baseUri = baseUri;
+        this.token = token;
+        this.settings = settings;
+        this.operationTable = settings.mix().entrySet().stream()
+                .flatMap(entry -> IntStream.range(0, entry.getValue()).mapToObj(weight -> entry.getKey()))
+                .toArray(Operation[]::new);
+    }
+
+    void seed() throws IOException, InterruptedException {
+        for (int from = 0; from < settings.seedCustomers(); from += SEED_CHUNK_SIZE) {
+            var size = Math.min(SEED_CHUNK_SIZE, settings.seedCustomers() - from);
+            var customerRequests = IntStream.range(0, size)
+                    .mapToObj(index -> newCustomerRequest())
+                    .toList();
+            var response = send(request(CUSTOMERS_PATH + "/bulk")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(customerRequests)))
+                    .build());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode() + ": "
+                        + new String(response.body()));
+            }
+            objectMapper.readValue(response.body(), BulkCustomerResponse.class).items().stream()
+                    .filter(item -> item.id() != null)
+                    .forEach(item -> customerIds.add(item.id()));
+        }
+    }
+
+    LoadTestResult run() throws InterruptedException {
+        var histograms = new EnumMap<Operation, Histogram>(Operation.class);
+        var errors = new EnumMap<Operation, LongAdder>(Operation.class);
+        for (var operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+        var recording = new AtomicBoolean();
+        var running = new AtomicBoolean(true);
+        var startedAt = Instant.now();
+        var intervalNanos = TimeUnit.SECONDS.toNanos(settings.clients()) / settings.rate();
+        var scheduleStart = System.nanoTime();
+
+        long measuredNanos;
+        try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < settings.clients(); client++) {
+                var offsetNanos = intervalNanos * client / settings.clients();
+                clients.submit(() -> {
+                    var random = ThreadLocalRandom.current();
+                    var intendedStart = scheduleStart + offsetNanos;
+                    while (running.get()) {
+                        var delayNanos = intendedStart - System.nanoTime();
+                        if (delayNanos > 0) {
+                            TimeUnit.NANOSECONDS.sleep(delayNanos);
+                        }
+                        var operation = operationTable[random.nextInt(operationTable.length)];
+                        var succeeded = execute(operation);
+                        var elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                        intendedStart += intervalNanos;
+                        if (recording.get()) {
+                            histograms.get(operation).recordValue(Math.min(elapsedMicros, HIGHEST_TRACKABLE_MICROS));
+                            if (!succeeded) {
+                                errors.get(operation).increment();
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+            Thread.sleep(settings.warmup());
+            recording.set(true);
+            var measureStart = System.nanoTime();
+            Thread.sleep(settings.duration());
+            recording.set(false);
+            measuredNanos = System.nanoTime() - measureStart;
+            running.set(false);
+        }
+
+        var seconds = measuredNanos / 1_000_000_000.0;
+        var total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        var operations = new ArrayList<OperationResult>();
+        for (var operation : Operation.values()) {
+            var histogram = histograms.get(operation);
+            if (histogram.getTotalCount() > 0) {
+                total.add(histogram);
+                operations.add(toResult(operation.name(), histogram, errors.get(operation).sum(), seconds));
+            }
+        }
+        var totalErrors = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        return new LoadTestResult(startedAt.toString(), settings.clients(), settings.rate(), LATENCY_MODEL,
+                settings.virtualThreads(),
+                settings.warmup().toString(), settings.duration().toString(), settings.seedCustomers(),
+                settings.mix(), toResult("TOTAL", total, totalErrors, seconds), List.copyOf(operations));
+    }
+
+    private boolean execute(Operation operation) {
+        try {
+            return switch (operation) {
+                case CREATE -> create();
+                case READ -> read();
+                case UPDATE -> update();
+                case DELETE -> delete();
+                case LIST -> list();
+            };
+        } catch (IOException exception) {
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean create() throws IOException, InterruptedException {
+        var response = send(request(CUSTOMERS_PATH)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(newCustomerRequest())))
+                .build());
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        customerIds.add(objectMapper.readValue(response.body(), CustomerResponse.class).id());
+        return true;
+    }
+
+    private boolean read() throws IOException, InterruptedException {
+        var id = customerIds.any();
+        if (id.isEmpty()) {
+            return create();
+        }
+        var response = send(request(CUSTOMERS_PATH + "/" + id.get()).GET().build());
+        return response.statusCode() == 200 || response.statusCode() == 404;
+    }
+
+    private boolean update() throws IOException, InterruptedException {
+        var id = customerIds.any();
+        if (id.isEmpty()) {
+            return create();
+        }
+        var response = send(request(CUSTOMERS_PATH + "/" + id.get())
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(newCustomerRequest())))
+                .build());
+        return response.statusCode() == 200 || response.statusCode() == 404;
+    }
+
+    private boolean delete() throws IOException, InterruptedException {
+        var id = customerIds.take();
+        if (id.isEmpty()) {
+            return create();
+        }
+        var response = send(request(CUSTOMERS_PATH + "/" + id.get()).DELETE().build());
+        return response.statusCode() == 204 || response.statusCode() == 404;
+    }
+
+    private boolean list() throws IOException, InterruptedException {
+        var cursor = ThreadLocalRandom.current().nextBoolean() ? customerIds.any() : Optional.<String>empty();
+        var query = "?size=" + LIST_PAGE_SIZE + cursor.map(id -> "&cursor=" + id).orElse("");
+        var response = send(request(CUSTOMERS_PATH + query).GET().build());
+        return response.statusCode() == 200;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Language", "en")
+                .header("X-Api-Version", "v1");
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private CustomerRequest newCustomerRequest() {
+        var sequence = emailSequence.incrementAndGet();
+        var random = ThreadLocalRandom.current();
+        return new CustomerRequest(
+                "John" + sequence,
+                "Doe" + random.nextInt(1000),
+                "load" + sequence + "-" + random.nextInt(1_000_000) + "@example.com",
+                "+51 9" + (10_000_000 + random.nextInt(90_000_000)),
+                new AddressRequest("218 Newbury Street", "Chicago", "Illinois", "15088", "USA"));
+    }
+
+    private static OperationResult toResult(String name, Histogram histogram, long errors, double seconds) {
+        return new OperationResult(
+                name,
+                histogram.getTotalCount(),
+                errors,
+                round(histogram.getTotalCount() / seconds),
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(95)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMaxValue()));
+    }
+
+    private static double toMillis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+}
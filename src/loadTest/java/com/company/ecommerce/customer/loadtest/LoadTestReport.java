@@ -0,0 +1,46 @@
+package com.company.ecommerce.customer.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+final class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String ROW_FORMAT = "%-8s %10s %8s %10s %9s %9s %9s %9s%n";
+
+    private LoadTestReport() {
+    }
+
+    static Path write(Path resultsDir, LoadTestResult result) throws IOException {
+        Files.createDirectories(resultsDir);
+        var file = resultsDir.resolve("results-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), result);
+        return file;
+    }
+
+    static void print(PrintStream out, LoadTestResult result) {
+        out.printf("Load test: %d clients, target %d req/s, virtual threads %s, warmup %s, duration %s, mix %s%n",
+                result.clients(), result.targetRate(), result.virtualThreads(), result.warmup(), result.duration(),
+                result.mix());
+        out.printf("Latency model: %s%n", result.latencyModel());
+        out.printf(ROW_FORMAT, "op", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        result.operations().forEach(operation -> printRow(out, operation));
+        printRow(out, result.total());
+    }
+
+    private static void printRow(PrintStream out, OperationResult operation) {
+        out.printf(ROW_FORMAT, operation.operation(), operation.requests(), operation.errors(),
+                operation.throughput(), operation.p50Millis(), operation.p95Millis(), operation.p99Millis(),
+                operation.maxMillis());
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.company.ecommerce.customer.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+record LoadTestResult(
+        String startedAt,
+        int clients,
+        int targetRate,
+        String latencyModel,
+        boolean virtualThreads,
+        String warmup,
+        String duration,
+        int seedCustomers,
+        Map<Operation, Integer> mix,
+        OperationResult total,
+        List<OperationResult> operations) {
+
+}
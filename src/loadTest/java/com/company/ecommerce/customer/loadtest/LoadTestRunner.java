@@ -0,0 +1,51 @@
+package com.company.ecommerce.customer.loadtest;
+
+import com.company.ecommerce.customer.CustomerServiceApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var settings = LoadTestSettings.fromSystemProperties();
+        var tokens = new TestTokens();
+        var publicKey = tokens.writePublicKey(Files.createTempDirectory("load-test"));
+        var mongoServer = new MongoServer(new MemoryBackend());
+        var mongoAddress = mongoServer.bind();
+
+        try (var context = new SpringApplicationBuilder(CustomerServiceApplication.class).run(
+                "--spring.data.mongodb.uri=mongodb://" + mongoAddress.getHostString() + ":" + mongoAddress.getPort()
+                        + "/customers",
+                "--spring.cloud.config.enabled=false",
+                "--spring.config.import=",
+                "--eureka.client.enabled=false",
+                "--server.port=0",
+                "--spring.security.oauth2.resourceserver.jwt.public-key-location=" + publicKey.toUri(),
+                "--spring.threads.virtual.enabled=" + settings.virtualThreads(),
+                "--logging.level.root=WARN")) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var token = tokens.sign("load-test", List.of("customer manager"),
+                    settings.warmup().plus(settings.duration()).plus(Duration.ofHours(1)));
+            var driver = new LoadDriver(URI.create("http://localhost:" + port), token, settings);
+
+            driver.seed();
+            var result = driver.run();
+
+            LoadTestReport.print(System.out, result);
+            System.out.println("Results written to " + LoadTestReport.write(settings.resultsDir(), result));
+        } finally {
+            mongoServer.shutdownNow();
+        }
+    }
+
+}
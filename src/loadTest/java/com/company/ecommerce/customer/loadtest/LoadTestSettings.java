@@ -0,0 +1,58 @@
+package com.company.ecommerce.customer.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+record LoadTestSettings(
+        int clients,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int seedCustomers,
+        boolean virtualThreads,
+        Map<Operation, Integer> mix,
+        Path resultsDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadTest.clients", 200),
+                positive("loadTest.rate", Integer.getInteger("loadTest.rate", 1000)),
+                DurationStyle.detectAndParse(System.getProperty("loadTest.warmup", "10s")),
+                DurationStyle.detectAndParse(System.getProperty("loadTest.duration", "60s")),
+                Integer.getInteger("loadTest.seedCustomers", 1000),
+                Boolean.parseBoolean(System.getProperty("loadTest.virtualThreads", "false")),
+                parseMix(System.getProperty("loadTest.mix", "create=10,read=55,update=15,delete=5,list=15")),
+                Path.of(System.getProperty("loadTest.resultsDir", "build/load-test")));
+    }
+
+    private static int positive(String property, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(property + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        var weights = Arrays.stream(mix.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(entry -> entry.split("="))
+                .collect(Collectors.toMap(
+                        entry -> Operation.valueOf(entry[0].trim().toUpperCase(Locale.ROOT)),
+                        entry -> Integer.parseInt(entry[1].trim()),
+                        Integer::sum,
+                        () -> new EnumMap<>(Operation.class)));
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Load test mix must have at least one positive weight: " + mix);
+        }
+        return weights;
+    }
+
+}
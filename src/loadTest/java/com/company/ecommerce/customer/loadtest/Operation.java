@@ -0,0 +1,11 @@
+package com.company.ecommerce.customer.loadtest;
+
+enum Operation {
+
+    CREATE,
+    READ,
+    UPDATE,
+    DELETE,
+    LIST
+
+}
@@ -0,0 +1,13 @@
+package com.company.ecommerce.customer.loadtest;
+
+record OperationResult(
+        String operation,
+        long requests,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis) {
+
+}
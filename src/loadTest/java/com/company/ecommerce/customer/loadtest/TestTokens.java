@@ -0,0 +1,54 @@
+package com.company.ecommerce.customer.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+final class TestTokens {
+
+    private static final String KEY_ID = "load-test";
+
+    private final RSAKey rsaKey;
+
+    TestTokens() throws JOSEException {
+        this.rsaKey = new RSAKeyGenerator(2048)
+                .keyID(KEY_ID)
+                .generate();
+    }
+
+    Path writePublicKey(Path directory) throws IOException, JOSEException {
+        var encoder = Base64.getMimeEncoder(64, "\n".getBytes());
+        var pem = "-----BEGIN PUBLIC KEY-----\n"
+                + encoder.encodeToString(rsaKey.toRSAPublicKey().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n";
+        return Files.writeString(directory.resolve("load-test-public-key.pem"), pem);
+    }
+
+    String sign(String subject, List<String> roles, Duration timeToLive) throws JOSEException {
+        var now = Instant.now();
+        var claims = new JWTClaimsSet.Builder()
+                .subject(subject)
+                .claim("roles", roles)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(timeToLive)))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(), claims);
+        jwt.sign(new RSASSASigner(rsaKey));
+        return jwt.serialize();
+    }
+
+}
@@ -1,5 +1,9 @@
 package com.company.ecommerce.customer.api;
 
+import com.company.ecommerce.customer.dto.BulkCustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerBatchResponse;
+import com.company.ecommerce.customer.dto.CustomerEmailLookupResponse;
+import com.company.ecommerce.customer.dto.CustomerPageResponse;
 import com.company.ecommerce.customer.dto.CustomerRequest;
 import com.company.ecommerce.customer.dto.CustomerResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,16 +17,31 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
+import static com.company.ecommerce.customer.constant.CommonConstant.APPLICATION_MERGE_PATCH_JSON_VALUE;
+import static com.company.ecommerce.customer.constant.CommonConstant.APPLICATION_SMILE_VALUE;
+import static com.company.ecommerce.customer.constant.CommonConstant.DEFAULT_PAGE_SIZE;
+import static com.company.ecommerce.customer.constant.CommonConstant.MAX_LOOKUP_ITEMS;
+import static com.company.ecommerce.customer.constant.CommonConstant.MAX_PAGE_SIZE;
 import static io.swagger.v3.oas.annotations.enums.ParameterIn.HEADER;
 import static io.swagger.v3.oas.annotations.enums.ParameterIn.PATH;
+import static io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
 
 public interface CustomerApi {
@@ -47,6 +66,157 @@ public interface CustomerApi {
                             example = "v1",
                             required = true,
                             schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = QUERY,
+                            description = "Id of the last customer of the previous page",
+                            example = "34ffabc840271a2600f50d326",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "fields",
+                            in = QUERY,
+                            description = "Comma separated customer fields to return, id is always returned",
+                            example = "firstName,email",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "size",
+                            in = QUERY,
+                            description = "Page size, at most " + MAX_PAGE_SIZE,
+                            example = DEFAULT_PAGE_SIZE,
+                            schema = @Schema(type = "integer", defaultValue = DEFAULT_PAGE_SIZE)
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Http status OK",
+                            content = {
+                                    @Content(
+                                            mediaType = APPLICATION_JSON_VALUE,
+                                            schema = @Schema(implementation = CustomerPageResponse.class)
+                                    ),
+                                    @Content(
+                                            mediaType = APPLICATION_SMILE_VALUE,
+                                            schema = @Schema(implementation = CustomerPageResponse.class)
+                                    ),
+                                    @Content(
+                                            mediaType = APPLICATION_CBOR_VALUE,
+                                            schema = @Schema(implementation = CustomerPageResponse.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Http status FORBIDDEN",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Http status UNPROCESSABLE ENTITY",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Http status INTERNAL SERVER ERROR",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    )
+            }
+    )
+    ResponseEntity<CustomerPageResponse> findAllCustomers(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String fields);
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search customers",
+            description = "REST API to search customers by name prefix, email and address, at least one filter is required. "
+                    + "Results are ordered by last name, first name and id when filtering by last name, "
+                    + "by first name and id when filtering by first name, by state, city and id when filtering "
+                    + "by country, and by id otherwise",
+            parameters = {
+                    @Parameter(
+                            name = "Accept-Language",
+                            in = HEADER,
+                            description = "Language",
+                            example = "en",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "X-Api-Version",
+                            in = HEADER,
+                            description = "Api version",
+                            example = "v1",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "firstName",
+                            in = QUERY,
+                            description = "Prefix of the customer first name",
+                            example = "Jo",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "lastName",
+                            in = QUERY,
+                            description = "Prefix of the customer last name",
+                            example = "Do",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "email",
+                            in = QUERY,
+                            description = "Customer email",
+                            example = "jdoe@gmail.com",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "city",
+                            in = QUERY,
+                            description = "Customer city",
+                            example = "Chicago",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "state",
+                            in = QUERY,
+                            description = "Customer state, requires the country",
+                            example = "Illinois",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "country",
+                            in = QUERY,
+                            description = "Customer country",
+                            example = "USA",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = QUERY,
+                            description = "Next cursor returned by the previous page for the same filters",
+                            example = "TGFyc29u.UGV0ZXI.34ffabc840271a2600f50d326",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "size",
+                            in = QUERY,
+                            description = "Page size, at most " + MAX_PAGE_SIZE,
+                            example = DEFAULT_PAGE_SIZE,
+                            schema = @Schema(type = "integer", defaultValue = DEFAULT_PAGE_SIZE)
                     )
             },
             responses = {
@@ -55,9 +225,7 @@ public interface CustomerApi {
                             description = "Http status OK",
                             content = @Content(
                                     mediaType = APPLICATION_JSON_VALUE,
-                                    array = @ArraySchema(
-                                            schema = @Schema(implementation = CustomerResponse.class)
-                                    )
+                                    schema = @Schema(implementation = CustomerPageResponse.class)
                             )
                     ),
                     @ApiResponse(
@@ -68,6 +236,14 @@ public interface CustomerApi {
                                     schema = @Schema(implementation = ProblemDetail.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Http status UNPROCESSABLE ENTITY",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Http status INTERNAL SERVER ERROR",
@@ -78,7 +254,62 @@ public interface CustomerApi {
                     )
             }
     )
-    ResponseEntity<List<CustomerResponse>> findAllCustomers();
+    ResponseEntity<CustomerPageResponse> searchCustomers(
+            @RequestParam(required = false) String firstName, @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String email, @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state, @RequestParam(required = false) String country,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size);
+
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Export all customers",
+            description = "REST API to stream all customers as newline-delimited JSON",
+            parameters = {
+                    @Parameter(
+                            name = "Accept-Language",
+                            in = HEADER,
+                            description = "Language",
+                            example = "en",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "X-Api-Version",
+                            in = HEADER,
+                            description = "Api version",
+                            example = "v1",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Http status OK",
+                            content = @Content(
+                                    mediaType = APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = CustomerResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Http status FORBIDDEN",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Http status INTERNAL SERVER ERROR",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    )
+            }
+    )
+    ResponseEntity<StreamingResponseBody> exportCustomers();
 
     @GetMapping("/{id}")
     @Operation(
@@ -108,6 +339,20 @@ public interface CustomerApi {
                             example = "34ffabc840271a2600f50d326",
                             required = true,
                             schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "fields",
+                            in = QUERY,
+                            description = "Comma separated customer fields to return, id is always returned",
+                            example = "firstName,email",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "If-None-Match",
+                            in = HEADER,
+                            description = "Entity tag of the cached customer, returns NOT MODIFIED when it is still current",
+                            example = "\"34ffabc840271a2600f50d326-0\"",
+                            schema = @Schema(type = "string")
                     )
             },
             responses = {
@@ -119,6 +364,10 @@ public interface CustomerApi {
                                     schema = @Schema(implementation = CustomerResponse.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Http status NOT MODIFIED"
+                    ),
                     @ApiResponse(
                             responseCode = "403",
                             description = "Http status FORBIDDEN",
@@ -135,6 +384,85 @@ public interface CustomerApi {
                                     schema = @Schema(implementation = ProblemDetail.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Http status UNPROCESSABLE ENTITY",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Http status INTERNAL SERVER ERROR",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    )
+            }
+    )
+    ResponseEntity<CustomerResponse> findCustomerById(
+            @PathVariable String id, @RequestParam(required = false) String fields,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    @PostMapping("/batch-get")
+    @Operation(
+            summary = "Find customers by ids",
+            description = "REST API to find up to " + MAX_LOOKUP_ITEMS + " customers by id in one request",
+            parameters = {
+                    @Parameter(
+                            name = "Accept-Language",
+                            in = HEADER,
+                            description = "Language",
+                            example = "en",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "X-Api-Version",
+                            in = HEADER,
+                            description = "Api version",
+                            example = "v1",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    )
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Customer ids to find",
+                    required = true,
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(
+                                    schema = @Schema(implementation = String.class)
+                            )
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Http status OK",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CustomerBatchResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Http status FORBIDDEN",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Http status UNPROCESSABLE ENTITY",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Http status INTERNAL SERVER ERROR",
@@ -145,7 +473,143 @@ public interface CustomerApi {
                     )
             }
     )
-    ResponseEntity<CustomerResponse> findCustomerById(@PathVariable String id);
+    ResponseEntity<CustomerBatchResponse> findCustomersByIds(@RequestBody List<String> ids);
+
+    @GetMapping("/lookup")
+    @Operation(
+            summary = "Find customer by email",
+            description = "REST API to find customer by email, case-insensitive",
+            parameters = {
+                    @Parameter(
+                            name = "Accept-Language",
+                            in = HEADER,
+                            description = "Language",
+                            example = "en",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "X-Api-Version",
+                            in = HEADER,
+                            description = "Api version",
+                            example = "v1",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "email",
+                            in = QUERY,
+                            description = "Customer email",
+                            example = "jdoe@gmail.com",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Http status OK",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CustomerResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Http status FORBIDDEN",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Http status NOT FOUND",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Http status INTERNAL SERVER ERROR",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    )
+            }
+    )
+    ResponseEntity<CustomerResponse> findCustomerByEmail(@RequestParam String email);
+
+    @PostMapping("/lookup")
+    @Operation(
+            summary = "Find customer ids by emails",
+            description = "REST API to resolve up to " + MAX_LOOKUP_ITEMS + " emails to customer ids, case-insensitive",
+            parameters = {
+                    @Parameter(
+                            name = "Accept-Language",
+                            in = HEADER,
+                            description = "Language",
+                            example = "en",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "X-Api-Version",
+                            in = HEADER,
+                            description = "Api version",
+                            example = "v1",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    )
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Customer emails to resolve",
+                    required = true,
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(
+                                    schema = @Schema(implementation = String.class)
+                            )
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Http status OK",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CustomerEmailLookupResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Http status FORBIDDEN",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Http status UNPROCESSABLE ENTITY",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Http status INTERNAL SERVER ERROR",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    )
+            }
+    )
+    ResponseEntity<CustomerEmailLookupResponse> findCustomerIdsByEmails(@RequestBody List<String> emails);
 
     @PostMapping
     @Operation(
@@ -222,6 +686,75 @@ public interface CustomerApi {
     )
     ResponseEntity<CustomerResponse> createCustomer(@Valid @RequestBody CustomerRequest customerRequest);
 
+    @PostMapping("/bulk")
+    @Operation(
+            summary = "Create customers in bulk",
+            description = "REST API to create customers in bulk reporting the result of each one",
+            parameters = {
+                    @Parameter(
+                            name = "Accept-Language",
+                            in = HEADER,
+                            description = "Language",
+                            example = "en",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "X-Api-Version",
+                            in = HEADER,
+                            description = "Api version",
+                            example = "v1",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    )
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Customer objects to create",
+                    required = true,
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(
+                                    schema = @Schema(implementation = CustomerRequest.class)
+                            )
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Http status OK",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = BulkCustomerResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Http status FORBIDDEN",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Http status UNPROCESSABLE ENTITY",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Http status INTERNAL SERVER ERROR",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    )
+            }
+    )
+    ResponseEntity<BulkCustomerResponse> createCustomers(@RequestBody List<CustomerRequest> customerRequests);
+
     @PutMapping("/{id}")
     @Operation(
             summary = "Update customer by id",
@@ -250,6 +783,13 @@ public interface CustomerApi {
                             example = "34ffabc840271a2600f50d326",
                             required = true,
                             schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "If-Match",
+                            in = HEADER,
+                            description = "Entity tag of the customer to modify, returns PRECONDITION FAILED when it is stale",
+                            example = "\"34ffabc840271a2600f50d326-0\"",
+                            schema = @Schema(type = "string")
                     )
             },
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -301,6 +841,14 @@ public interface CustomerApi {
                                     schema = @Schema(implementation = ProblemDetail.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "Http status PRECONDITION FAILED",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Http status INTERNAL SERVER ERROR",
@@ -312,7 +860,108 @@ public interface CustomerApi {
             }
     )
     ResponseEntity<CustomerResponse> updateCustomerById(
-            @PathVariable String id, @Valid @RequestBody CustomerRequest customerRequest);
+            @PathVariable String id, @Valid @RequestBody CustomerRequest customerRequest,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch);
+
+    @PatchMapping(value = "/{id}", consumes = APPLICATION_MERGE_PATCH_JSON_VALUE)
+    @Operation(
+            summary = "Patch customer by id",
+            description = "REST API to update only the given customer fields with a JSON merge patch",
+            parameters = {
+                    @Parameter(
+                            name = "Accept-Language",
+                            in = HEADER,
+                            description = "Language",
+                            example = "en",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "X-Api-Version",
+                            in = HEADER,
+                            description = "Api version",
+                            example = "v1",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "id",
+                            in = PATH,
+                            description = "Customer id",
+                            example = "34ffabc840271a2600f50d326",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    )
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Customer fields to update, null removes the address",
+                    required = true,
+                    content = @Content(
+                            mediaType = APPLICATION_MERGE_PATCH_JSON_VALUE,
+                            schema = @Schema(implementation = CustomerRequest.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Http status OK",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CustomerResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Http status BAD REQUEST",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Http status FORBIDDEN",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Http status NOT FOUND",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "Http status CONFLICT",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Http status UNPROCESSABLE ENTITY",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Http status INTERNAL SERVER ERROR",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    )
+            }
+    )
+    ResponseEntity<CustomerResponse> patchCustomerById(
+            @PathVariable String id, @RequestBody Map<String, Object> customerPatch);
 
     @DeleteMapping("/{id}")
     @Operation(
@@ -342,6 +991,13 @@ public interface CustomerApi {
                             example = "34ffabc840271a2600f50d326",
                             required = true,
                             schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "If-Match",
+                            in = HEADER,
+                            description = "Entity tag of the customer to modify, returns PRECONDITION FAILED when it is stale",
+                            example = "\"34ffabc840271a2600f50d326-0\"",
+                            schema = @Schema(type = "string")
                     )
             },
             responses = {
@@ -365,6 +1021,14 @@ public interface CustomerApi {
                                     schema = @Schema(implementation = ProblemDetail.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "Http status PRECONDITION FAILED",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Http status INTERNAL SERVER ERROR",
@@ -375,6 +1039,7 @@ public interface CustomerApi {
                     )
             }
     )
-    ResponseEntity<Void> deleteCustomerById(@PathVariable String id);
+    ResponseEntity<Void> deleteCustomerById(
+            @PathVariable String id, @RequestHeader(value = IF_MATCH, required = false) String ifMatch);
 
 }
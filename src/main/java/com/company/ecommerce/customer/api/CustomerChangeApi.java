@@ -0,0 +1,106 @@
+package com.company.ecommerce.customer.api;
+
+import com.company.ecommerce.customer.dto.CustomerChangeEvent;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.LAST_EVENT_ID_HEADER;
+import static io.swagger.v3.oas.annotations.enums.ParameterIn.HEADER;
+import static io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+
+public interface CustomerChangeApi {
+
+    @GetMapping(value = "/changes", produces = TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Subscribe to customer changes",
+            description = "REST API to receive customer creations, updates and deletions as server-sent events",
+            parameters = {
+                    @Parameter(
+                            name = "Accept-Language",
+                            in = HEADER,
+                            description = "Language",
+                            example = "en",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "X-Api-Version",
+                            in = HEADER,
+                            description = "Api version",
+                            example = "v1",
+                            required = true,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "Last-Event-ID",
+                            in = HEADER,
+                            description = "Resume token of the last received change, changes after it are sent first",
+                            example = "8266F1A2B3000000012B022C0100296E5A1004",
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "resumeAfter",
+                            in = QUERY,
+                            description = "Resume token to start from when Last-Event-ID is not sent",
+                            example = "8266F1A2B3000000012B022C0100296E5A1004",
+                            schema = @Schema(type = "string")
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Http status OK",
+                            content = @Content(
+                                    mediaType = TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = CustomerChangeEvent.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Http status FORBIDDEN",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Http status UNPROCESSABLE ENTITY",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "Http status SERVICE UNAVAILABLE, too many subscriptions are catching up",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Http status INTERNAL SERVER ERROR",
+                            content = @Content(
+                                    mediaType = APPLICATION_PROBLEM_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class)
+                            )
+                    )
+            }
+    )
+    SseEmitter subscribeToChanges(
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+            @RequestParam(required = false) String resumeAfter);
+
+}
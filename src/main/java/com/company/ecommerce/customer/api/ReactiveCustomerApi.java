@@ -0,0 +1,46 @@
+package com.company.ecommerce.customer.api;
+
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.APPLICATION_MERGE_PATCH_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+public interface ReactiveCustomerApi {
+
+    @GetMapping(produces = { APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE })
+    Flux<CustomerResponse> findAllCustomers();
+
+    @GetMapping("/{id}")
+    Mono<ResponseEntity<CustomerResponse>> findCustomerById(@PathVariable String id, Locale locale);
+
+    @PostMapping
+    Mono<ResponseEntity<CustomerResponse>> createCustomer(@Valid @RequestBody CustomerRequest customerRequest);
+
+    @PutMapping("/{id}")
+    Mono<ResponseEntity<CustomerResponse>> updateCustomerById(
+            @PathVariable String id, @Valid @RequestBody CustomerRequest customerRequest, Locale locale);
+
+    @PatchMapping(value = "/{id}", consumes = APPLICATION_MERGE_PATCH_JSON_VALUE)
+    Mono<ResponseEntity<CustomerResponse>> patchCustomerById(
+            @PathVariable String id, @RequestBody Map<String, Object> customerPatch, Locale locale);
+
+    @DeleteMapping("/{id}")
+    Mono<ResponseEntity<Void>> deleteCustomerById(@PathVariable String id, Locale locale);
+
+}
@@ -1,5 +1,8 @@
 package com.company.ecommerce.customer.aspect;
 
+import com.company.ecommerce.customer.exception.ResourceNotFoundException;
+import com.company.ecommerce.customer.properties.LoggingProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -7,10 +10,11 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import static com.company.ecommerce.customer.constant.CommonConstant.MAX_ARRAY_SIZE;
 import static com.company.ecommerce.customer.constant.CommonConstant.MAX_LIST_SIZE;
@@ -19,46 +23,96 @@ import static com.company.ecommerce.customer.constant.CommonConstant.MAX_STRING_
 @Aspect
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class LoggingAspect {
 
-    @Pointcut("execution(public * com.company.ecommerce.customer.service.impl.*.*(..))")
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("([A-Za-z0-9])[A-Za-z0-9._%+-]*(@[A-Za-z0-9.-]+)");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("(\\+\\d{1,3}\\s?)\\d*(\\d{2})");
+
+    private final LoggingProperties loggingProperties;
+
+    @Pointcut("execution(public !org.reactivestreams.Publisher+ com.company.ecommerce.customer.service.impl.*.*(..))")
     public void publicMethodsInServicePackage() {
 
     }
 
     @Around("publicMethodsInServicePackage()")
     public Object logMethodCall(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
-        String args = Arrays.toString(joinPoint.getArgs());
+        if (log.isDebugEnabled()) {
+            log.debug("Entering method: {} with arguments: {}",
+                    joinPoint.getSignature().toShortString(), lazyFormat(joinPoint.getArgs()));
+        }
 
-        Instant startTime = Instant.now();
+        long startTime = System.nanoTime();
         try {
-            log.info("Entering method: {}.{}() with arguments: {}", className, methodName, args);
             Object result = joinPoint.proceed();
-            Object truncatedResult = truncateResult(result);
-            log.info("Exiting method: {}.{}() with result: {}", className, methodName, truncatedResult);
+            long elapsedTime = System.nanoTime() - startTime;
+
+            if (elapsedTime >= loggingProperties.slowThreshold().toNanos()) {
+                log.warn("Slow method: {} took {} ms with arguments: {}", joinPoint.getSignature().toShortString(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsedTime), lazyFormat(joinPoint.getArgs()));
+            } else if (log.isInfoEnabled() && isSampled()) {
+                log.info("Executed method: {} in {} ms", joinPoint.getSignature().toShortString(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsedTime));
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Exiting method: {} with result: {}",
+                        joinPoint.getSignature().toShortString(), lazyFormat(result));
+            }
 
             return result;
+        } catch (ResourceNotFoundException ex) {
+            if (log.isDebugEnabled()) {
+                log.debug("Not found in method: {} with arguments: {}: {}", joinPoint.getSignature().toShortString(),
+                        lazyFormat(joinPoint.getArgs()), ex.getMessage());
+            }
+            throw ex;
         } catch (Exception ex) {
-            log.error("Error in method: {}.{}()", className, methodName, ex);
+            log.error("Error in method: {} after {} ms with arguments: {}", joinPoint.getSignature().toShortString(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), lazyFormat(joinPoint.getArgs()), ex);
             throw ex;
-        } finally {
-            Instant endTime = Instant.now();
-            Duration duration = Duration.between(startTime, endTime);
-            log.info("Total execution time of {}.{}(): {} ms", className, methodName, duration.toMillis());
         }
     }
 
-    private Object truncateResult(Object result) {
+    private boolean isSampled() {
+        int sampleRate = loggingProperties.sampleRate();
+        return sampleRate <= 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    private static Object lazyFormat(Object value) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return format(value);
+            }
+        };
+    }
+
+    static String format(Object value) {
+        var text = value instanceof Object[] arrayValue
+                ? Arrays.toString(Arrays.stream(truncateArray(arrayValue)).map(LoggingAspect::truncateResult).toArray())
+                : String.valueOf(truncateResult(value));
+        return mask(text);
+    }
+
+    static String mask(String text) {
+        var maskedText = EMAIL_PATTERN.matcher(text).replaceAll("$1***$2");
+        return PHONE_PATTERN.matcher(maskedText).replaceAll("$1***$2");
+    }
+
+    private static Object[] truncateArray(Object[] arrayValue) {
+        return arrayValue.length > MAX_ARRAY_SIZE ? Arrays.copyOf(arrayValue, MAX_ARRAY_SIZE) : arrayValue;
+    }
+
+    private static Object truncateResult(Object result) {
         return switch (result) {
             case String stringResult ->
                     stringResult.length() > MAX_STRING_LENGTH ? stringResult.substring(0, MAX_STRING_LENGTH)
                             .concat("...") : stringResult;
             case List<?> listResult ->
                     listResult.size() > MAX_LIST_SIZE ? listResult.subList(0, MAX_LIST_SIZE): listResult;
-            case Object[] arrayResult ->
-                    arrayResult.length > MAX_ARRAY_SIZE ? Arrays.copyOf(arrayResult, MAX_ARRAY_SIZE) : arrayResult;
+            case Object[] arrayResult -> truncateArray(arrayResult);
+            case null -> null;
             default -> result;
         };
     }
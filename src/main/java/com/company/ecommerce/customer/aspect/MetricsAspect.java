@@ -0,0 +1,97 @@
+package com.company.ecommerce.customer.aspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+    private static final String TIMER_NAME = "customer.service.invocations";
+    private static final String ERRORS_NAME = "customer.service.errors";
+    private static final String IN_FLIGHT_NAME = "customer.service.in.flight";
+    private static final String METHOD_TAG = "method";
+    private static final String EXCEPTION_TAG = "exception";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, MethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+
+    @Pointcut("execution(public * com.company.ecommerce.customer.service.CustomerService.*(..))")
+    public void customerServiceMethods() {
+
+    }
+
+    @Around("customerServiceMethods()")
+    public Object recordMethodCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        var method = joinPoint.getSignature().getName();
+        var metrics = methodMetrics.computeIfAbsent(method, this::registerMethodMetrics);
+
+        var sample = Timer.start(meterRegistry);
+        metrics.inFlight().incrementAndGet();
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(metrics.timer());
+            return result;
+        } catch (Throwable ex) {
+            var errorMetrics = metrics.errorMetrics()
+                    .computeIfAbsent(ex.getClass(), exception -> registerErrorMetrics(method, exception));
+            sample.stop(errorMetrics.timer());
+            errorMetrics.counter().increment();
+            throw ex;
+        } finally {
+            metrics.inFlight().decrementAndGet();
+        }
+    }
+
+    private MethodMetrics registerMethodMetrics(String method) {
+        var inFlight = new AtomicInteger();
+        Gauge.builder(IN_FLIGHT_NAME, inFlight, AtomicInteger::get)
+                .description("Customer service calls currently in progress")
+                .tag(METHOD_TAG, method)
+                .register(meterRegistry);
+        return new MethodMetrics(timer(method, NO_EXCEPTION), inFlight, new ConcurrentHashMap<>());
+    }
+
+    private ErrorMetrics registerErrorMetrics(String method, Class<? extends Throwable> exception) {
+        var counter = Counter.builder(ERRORS_NAME)
+                .description("Customer service calls that ended with an exception")
+                .tag(METHOD_TAG, method)
+                .tag(EXCEPTION_TAG, exception.getSimpleName())
+                .register(meterRegistry);
+        return new ErrorMetrics(timer(method, exception.getSimpleName()), counter);
+    }
+
+    private Timer timer(String method, String exception) {
+        return Timer.builder(TIMER_NAME)
+                .description("Customer service call latency")
+                .tag(METHOD_TAG, method)
+                .tag(EXCEPTION_TAG, exception)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record MethodMetrics(Timer timer, AtomicInteger inFlight,
+                                 Map<Class<? extends Throwable>, ErrorMetrics> errorMetrics) {
+
+    }
+
+    private record ErrorMetrics(Timer timer, Counter counter) {
+
+    }
+
+}
@@ -4,7 +4,7 @@ import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
 import java.util.Optional;
 
@@ -15,12 +15,8 @@ public class AuditorAwareImpl implements AuditorAware<String> {
         return Optional.ofNullable(SecurityContextHolder.getContext())
                 .map(SecurityContext::getAuthentication)
                 .filter(Authentication::isAuthenticated)
-                .filter(authentication -> authentication.getPrincipal() instanceof Jwt)
-                .map(Authentication::getPrincipal)
-                .map(Jwt.class::cast)
-                .map(Jwt::getClaims)
-                .map(claims -> claims.get("sub"))
-                .map(Object::toString);
+                .filter(JwtAuthenticationToken.class::isInstance)
+                .map(Authentication::getName);
     }
 
 }
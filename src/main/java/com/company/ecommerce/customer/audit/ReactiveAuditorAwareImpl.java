@@ -0,0 +1,24 @@
+package com.company.ecommerce.customer.audit;
+
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.jwt.Jwt;
+import reactor.core.publisher.Mono;
+
+public class ReactiveAuditorAwareImpl implements ReactiveAuditorAware<String> {
+
+    @Override
+    public Mono<String> getCurrentAuditor() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .filter(authentication -> authentication.getPrincipal() instanceof Jwt)
+                .map(Authentication::getPrincipal)
+                .map(Jwt.class::cast)
+                .mapNotNull(jwt -> jwt.getClaims().get("sub"))
+                .map(Object::toString);
+    }
+
+}
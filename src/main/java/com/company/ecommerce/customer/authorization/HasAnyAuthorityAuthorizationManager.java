@@ -0,0 +1,61 @@
+package com.company.ecommerce.customer.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class HasAnyAuthorityAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<AnnotatedMethod, Set<String>> requiredAuthorities = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        var targetClass = Objects.isNull(invocation.getThis()) ? null : AopUtils.getTargetClass(invocation.getThis());
+        var authorities = requiredAuthorities.computeIfAbsent(
+                new AnnotatedMethod(invocation.getMethod(), targetClass), HasAnyAuthorityAuthorizationManager::compile);
+        return hasAnyAuthority(authentication.get(), authorities) ? GRANTED : DENIED;
+    }
+
+    private static boolean hasAnyAuthority(Authentication authentication, Set<String> authorities) {
+        if (Objects.isNull(authentication)) {
+            return false;
+        }
+
+        for (var grantedAuthority : authentication.getAuthorities()) {
+            if (authorities.contains(grantedAuthority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> compile(AnnotatedMethod annotatedMethod) {
+        var method = annotatedMethod.method();
+        var targetClass = annotatedMethod.targetClass();
+        var hasAnyAuthority = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getMostSpecificMethod(method, targetClass), HasAnyAuthority.class);
+        if (Objects.isNull(hasAnyAuthority)) {
+            hasAnyAuthority = AnnotatedElementUtils.findMergedAnnotation(
+                    Objects.isNull(targetClass) ? method.getDeclaringClass() : targetClass, HasAnyAuthority.class);
+        }
+        return Objects.isNull(hasAnyAuthority) ? Set.of() : Set.of(hasAnyAuthority.value());
+    }
+
+    private record AnnotatedMethod(Method method, Class<?> targetClass) {
+
+    }
+
+}
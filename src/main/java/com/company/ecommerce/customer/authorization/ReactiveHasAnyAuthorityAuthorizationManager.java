@@ -0,0 +1,20 @@
+package com.company.ecommerce.customer.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
+
+public class ReactiveHasAnyAuthorityAuthorizationManager implements ReactiveAuthorizationManager<MethodInvocation> {
+
+    private final HasAnyAuthorityAuthorizationManager authorizationManager = new HasAnyAuthorityAuthorizationManager();
+
+    @Override
+    public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, MethodInvocation invocation) {
+        return authentication
+                .map(currentAuthentication -> authorizationManager.check(() -> currentAuthentication, invocation))
+                .switchIfEmpty(Mono.fromSupplier(() -> authorizationManager.check(() -> null, invocation)));
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.company.ecommerce.customer.cache;
+
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.properties.CustomerCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@Component
+public class CustomerCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "customers";
+
+    private final AsyncCache<String, Customer> customers;
+
+    public CustomerCache(CustomerCacheProperties cacheProperties) {
+        this.customers = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfterWrite(cacheProperties.expireAfterWrite())
+                .recordStats()
+                .buildAsync();
+    }
+
+    public Optional<Customer> get(String id, Function<String, Optional<Customer>> loader) {
+        // Loaded outside the cache lock; a concurrent put or evict replaces the pending entry instead of waiting.
+        var pendingCustomer = new CompletableFuture<Customer>();
+        var customer = customers.get(id, (key, executor) -> pendingCustomer);
+        if (customer != pendingCustomer) {
+            return Optional.ofNullable(customer.join());
+        }
+
+        try {
+            var loadedCustomer = loader.apply(id);
+            pendingCustomer.complete(loadedCustomer.orElse(null));
+            return loadedCustomer;
+        } catch (RuntimeException ex) {
+            pendingCustomer.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    public Optional<Customer> getIfPresent(String id) {
+        var customer = customers.getIfPresent(id);
+        if (Objects.isNull(customer) || !customer.isDone() || customer.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(customer.join());
+    }
+
+    public Map<String, Customer> getAll(Collection<String> ids, Function<Set<String>, Map<String, Customer>> loader) {
+        try {
+            return customers.getAll(ids, (keys, executor) ->
+                    CompletableFuture.completedFuture(loader.apply(Set.copyOf(keys)))).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public void put(Customer customer) {
+        customers.asMap().merge(customer.getId(), CompletableFuture.completedFuture(customer),
+                CustomerCache::latestVersion);
+    }
+
+    public void evict(String id) {
+        customers.synchronous().invalidate(id);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, customers, CACHE_NAME);
+    }
+
+    private static CompletableFuture<Customer> latestVersion(
+            CompletableFuture<Customer> cached, CompletableFuture<Customer> candidate) {
+        if (!cached.isDone() || cached.isCompletedExceptionally() || Objects.isNull(cached.join())) {
+            return candidate;
+        }
+        return versionOf(candidate.join()) >= versionOf(cached.join()) ? candidate : cached;
+    }
+
+    private static int versionOf(Customer customer) {
+        return Objects.requireNonNullElse(customer.getVersion(), -1);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.company.ecommerce.customer.cache;
+
+import com.company.ecommerce.customer.properties.CustomerEmailCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+@Component
+public class CustomerEmailCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "customer-emails";
+
+    private final Cache<String, String> customerIds;
+
+    public CustomerEmailCache(CustomerEmailCacheProperties cacheProperties) {
+        this.customerIds = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfterWrite(cacheProperties.expireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<String> get(String email, Function<String, Optional<String>> loader) {
+        return Optional.ofNullable(customerIds.get(email, key -> loader.apply(key).orElse(null)));
+    }
+
+    public Map<String, String> getAll(Collection<String> emails, Function<Set<String>, Map<String, String>> loader) {
+        return customerIds.getAll(emails, keys -> loader.apply(Set.copyOf(keys)));
+    }
+
+    public void evict(String email) {
+        if (Objects.nonNull(email)) {
+            customerIds.invalidate(email);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, customerIds, CACHE_NAME);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.company.ecommerce.customer.cache;
+
+import com.company.ecommerce.customer.properties.JwtCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@Component
+@ConditionalOnWebApplication(type = SERVLET)
+public class JwkSetCache extends CaffeineCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "jwk-sets";
+
+    public JwkSetCache(JwtCacheProperties cacheProperties) {
+        super(CACHE_NAME, Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfterWrite(cacheProperties.jwkSetTimeToLive())
+                .executor(fetch -> Thread.ofVirtual().name("jwk-set-fetch").start(fetch))
+                .recordStats()
+                .buildAsync(), true);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, getNativeCache(), CACHE_NAME);
+    }
+
+}
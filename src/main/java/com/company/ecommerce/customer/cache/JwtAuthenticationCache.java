@@ -0,0 +1,109 @@
+package com.company.ecommerce.customer.cache;
+
+import com.company.ecommerce.customer.properties.JwtCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.AbstractOAuth2TokenAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@Component
+@ConditionalOnWebApplication(type = SERVLET)
+public class JwtAuthenticationCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "jwt-authentications";
+
+    private final AsyncCache<String, Authentication> authentications;
+
+    public JwtAuthenticationCache(JwtCacheProperties cacheProperties) {
+        this.authentications = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfter(new TokenExpiry(cacheProperties.maximumTimeToLive()))
+                .recordStats()
+                .buildAsync();
+    }
+
+    public Authentication get(String token, Function<String, Authentication> authenticator) {
+        // Verified outside the cache lock so a JWK set fetch never blocks other tokens hashing to the same bin.
+        var pendingAuthentication = new CompletableFuture<Authentication>();
+        var authentication = authentications.get(hash(token), (key, executor) -> pendingAuthentication);
+        if (authentication != pendingAuthentication) {
+            try {
+                return authentication.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+
+        try {
+            var verifiedAuthentication = authenticator.apply(token);
+            pendingAuthentication.complete(verifiedAuthentication);
+            return verifiedAuthentication;
+        } catch (RuntimeException ex) {
+            pendingAuthentication.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, authentications, CACHE_NAME);
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record TokenExpiry(Duration maximumTimeToLive) implements Expiry<String, Authentication> {
+
+        @Override
+        public long expireAfterCreate(String key, Authentication authentication, long currentTime) {
+            if (authentication instanceof AbstractOAuth2TokenAuthenticationToken<?> tokenAuthentication
+                    && Objects.nonNull(tokenAuthentication.getToken().getExpiresAt())) {
+                var timeToLive = Duration.between(Instant.now(), tokenAuthentication.getToken().getExpiresAt());
+                return Math.max(0, Math.min(timeToLive.toNanos(), maximumTimeToLive.toNanos()));
+            }
+            return maximumTimeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Authentication authentication, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, authentication, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Authentication authentication, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.company.ecommerce.customer.changestream;
+
+import com.company.ecommerce.customer.dto.CustomerChangeEvent;
+import com.company.ecommerce.customer.properties.CustomerChangeStreamProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(prefix = "customer.change-stream", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CustomerChangeBroadcaster implements MeterBinder {
+
+    private final CustomerChangeStreamProperties changeStreamProperties;
+    private final Deque<CustomerChangeEvent> recentEvents = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public void publish(CustomerChangeEvent event) {
+        lock.lock();
+        try {
+            if (recentEvents.size() >= changeStreamProperties.replaySize()) {
+                recentEvents.removeFirst();
+            }
+            recentEvents.addLast(event);
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean subscribe(SseEmitter emitter, String resumeToken) {
+        lock.lock();
+        try {
+            var missedEvents = Objects.isNull(resumeToken) ? List.<CustomerChangeEvent>of() : eventsAfter(resumeToken);
+            if (Objects.isNull(missedEvents)) {
+                return false;
+            }
+
+            var subscriber = new Subscriber(emitter,
+                    changeStreamProperties.replaySize() + changeStreamProperties.subscriberBufferSize());
+            missedEvents.forEach(subscriber::offer);
+            subscribers.add(subscriber);
+            subscriber.start();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("customer.changes.subscribers", this, CustomerChangeBroadcaster::subscriberCount)
+                .description("Open customer change subscriptions sharing the change stream")
+                .register(registry);
+    }
+
+    private List<CustomerChangeEvent> eventsAfter(String resumeToken) {
+        var missedEvents = new ArrayList<CustomerChangeEvent>();
+        var iterator = recentEvents.descendingIterator();
+        while (iterator.hasNext()) {
+            var event = iterator.next();
+            if (resumeToken.equals(event.resumeToken())) {
+                return missedEvents.reversed();
+            }
+            missedEvents.add(event);
+        }
+        return null;
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<CustomerChangeEvent> pendingEvents;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.pendingEvents = new LinkedBlockingQueue<>(capacity);
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::close);
+            emitter.onError(ex -> close());
+        }
+
+        private void start() {
+            Thread.ofVirtual().name("customer-change-subscriber").start(this::drain);
+        }
+
+        private void offer(CustomerChangeEvent event) {
+            if (!closed && !pendingEvents.offer(event)) {
+                log.warn("Closing slow customer change subscription after {} pending events", pendingEvents.size());
+                close();
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    var event = pendingEvents.poll(1, TimeUnit.SECONDS);
+                    if (Objects.nonNull(event)) {
+                        emitter.send(CustomerChangeStreams.toSseEvent(event));
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+    }
+
+}
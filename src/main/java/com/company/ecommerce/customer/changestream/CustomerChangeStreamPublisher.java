@@ -0,0 +1,118 @@
+package com.company.ecommerce.customer.changestream;
+
+import com.company.ecommerce.customer.entity.ChangeStreamCheckpoint;
+import com.company.ecommerce.customer.properties.CustomerChangeStreamProperties;
+import com.company.ecommerce.customer.repository.ChangeStreamCheckpointRepository;
+import com.mongodb.MongoException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(prefix = "customer.change-stream", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CustomerChangeStreamPublisher implements SmartLifecycle {
+
+    private static final String CHECKPOINT_ID = "customers";
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final CustomerChangeStreams changeStreams;
+    private final CustomerChangeBroadcaster changeBroadcaster;
+    private final ChangeStreamCheckpointRepository checkpointRepository;
+    private final CustomerChangeStreamProperties changeStreamProperties;
+
+    private volatile boolean running;
+    private Thread worker;
+    private String resumeToken;
+    private String checkpointedResumeToken;
+    private long checkpointedAt;
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("customer-change-stream").start(this::tail);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(changeStreamProperties.maxAwaitTime().multipliedBy(2));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tail() {
+        resumeToken = checkpointRepository.findById(CHECKPOINT_ID)
+                .map(ChangeStreamCheckpoint::getResumeToken)
+                .orElse(null);
+        checkpointedResumeToken = resumeToken;
+        checkpointedAt = System.nanoTime();
+
+        while (running) {
+            try (var cursor = changeStreams.open(resumeToken)) {
+                while (running) {
+                    var change = cursor.tryNext();
+                    if (Objects.nonNull(change)) {
+                        var event = changeStreams.toEvent(change);
+                        changeBroadcaster.publish(event);
+                        resumeToken = event.resumeToken();
+                    } else if (Objects.nonNull(cursor.getResumeToken())) {
+                        resumeToken = CustomerChangeStreams.toResumeToken(cursor.getResumeToken());
+                    }
+                    checkpoint(false);
+                }
+            } catch (MongoException ex) {
+                if (ex.getCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    log.warn("Customer change stream resume token {} is no longer in the oplog, resuming from now",
+                            resumeToken);
+                    resumeToken = null;
+                } else {
+                    log.error("Customer change stream failed, retrying in {}",
+                            changeStreamProperties.retryBackoff(), ex);
+                    backOff();
+                }
+            }
+        }
+        checkpoint(true);
+    }
+
+    private void checkpoint(boolean force) {
+        if (Objects.isNull(resumeToken) || resumeToken.equals(checkpointedResumeToken)) {
+            return;
+        }
+        if (!force && System.nanoTime() - checkpointedAt < changeStreamProperties.checkpointInterval().toNanos()) {
+            return;
+        }
+
+        checkpointRepository.save(new ChangeStreamCheckpoint(CHECKPOINT_ID, resumeToken, LocalDateTime.now()));
+        checkpointedResumeToken = resumeToken;
+        checkpointedAt = System.nanoTime();
+    }
+
+    private void backOff() {
+        try {
+            Thread.sleep(changeStreamProperties.retryBackoff());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+}
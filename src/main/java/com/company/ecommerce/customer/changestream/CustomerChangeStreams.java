@@ -0,0 +1,99 @@
+package com.company.ecommerce.customer.changestream;
+
+import com.company.ecommerce.customer.dto.CustomerChangeEvent;
+import com.company.ecommerce.customer.dto.CustomerChangeType;
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.mapper.CustomerMapper;
+import com.company.ecommerce.customer.properties.CustomerChangeStreamProperties;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+@Component
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(prefix = "customer.change-stream", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CustomerChangeStreams {
+
+    private static final String EVENT_NAME = "customer-change";
+    private static final String RESUME_TOKEN_DATA = "_data";
+    private static final Pattern RESUME_TOKEN_PATTERN = Pattern.compile("[0-9A-Fa-f]{1,1024}");
+    private static final List<Bson> PIPELINE = List.of(Aggregates.match(
+            Filters.in("operationType", "insert", "update", "replace", "delete")));
+
+    private final MongoTemplate mongoTemplate;
+    private final CustomerMapper customerMapper;
+    private final CustomerChangeStreamProperties changeStreamProperties;
+
+    public MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(String resumeToken) {
+        var changeStream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Customer.class))
+                .watch(PIPELINE)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(changeStreamProperties.maxAwaitTime().toMillis(), TimeUnit.MILLISECONDS);
+        if (Objects.nonNull(resumeToken)) {
+            changeStream.resumeAfter(new BsonDocument(RESUME_TOKEN_DATA, new BsonString(resumeToken)));
+        }
+        return changeStream.cursor();
+    }
+
+    public CustomerChangeEvent toEvent(ChangeStreamDocument<Document> change) {
+        var type = switch (change.getOperationType()) {
+            case INSERT -> CustomerChangeType.CREATED;
+            case DELETE -> CustomerChangeType.DELETED;
+            default -> CustomerChangeType.UPDATED;
+        };
+        var customer = type == CustomerChangeType.DELETED || Objects.isNull(change.getFullDocument())
+                ? null
+                : customerMapper.mapToCustomerResponse(
+                        mongoTemplate.getConverter().read(Customer.class, change.getFullDocument()));
+        var occurredAt = Objects.isNull(change.getClusterTime())
+                ? null
+                : Instant.ofEpochSecond(change.getClusterTime().getTime());
+
+        return new CustomerChangeEvent(toResumeToken(change.getResumeToken()), type,
+                toCustomerId(change.getDocumentKey()), customer, occurredAt);
+    }
+
+    public static String toResumeToken(BsonDocument resumeToken) {
+        return Objects.isNull(resumeToken) ? null : resumeToken.getString(RESUME_TOKEN_DATA).getValue();
+    }
+
+    public static boolean isResumeToken(String resumeToken) {
+        return RESUME_TOKEN_PATTERN.matcher(resumeToken).matches();
+    }
+
+    public static SseEmitter.SseEventBuilder toSseEvent(CustomerChangeEvent event) {
+        return SseEmitter.event()
+                .id(event.resumeToken())
+                .name(EVENT_NAME)
+                .data(event, APPLICATION_JSON);
+    }
+
+    private static String toCustomerId(BsonDocument documentKey) {
+        BsonValue id = documentKey.get("_id");
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+}
@@ -1,19 +1,26 @@
 package com.company.ecommerce.customer.config;
 
+import com.company.ecommerce.customer.i18n.PreloadedMessageSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 
+import java.util.List;
+
 import static java.util.Locale.ENGLISH;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
 
 @Configuration
+@ConditionalOnWebApplication(type = SERVLET)
 public class LocaleConfig {
 
     @Bean
-    public LocaleResolver localeResolver() {
+    public LocaleResolver localeResolver(PreloadedMessageSource messageSource) {
         AcceptHeaderLocaleResolver localeResolver = new AcceptHeaderLocaleResolver();
         localeResolver.setDefaultLocale(ENGLISH);
+        localeResolver.setSupportedLocales(List.copyOf(messageSource.getLocales()));
         return localeResolver;
     }
 
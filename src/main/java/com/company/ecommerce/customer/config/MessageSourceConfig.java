@@ -0,0 +1,23 @@
+package com.company.ecommerce.customer.config;
+
+import com.company.ecommerce.customer.i18n.PreloadedMessageSource;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MessageSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.messages")
+    public MessageSourceProperties messageSourceProperties() {
+        return new MessageSourceProperties();
+    }
+
+    @Bean
+    public PreloadedMessageSource messageSource(MessageSourceProperties messageSourceProperties) {
+        return PreloadedMessageSource.load(messageSourceProperties);
+    }
+
+}
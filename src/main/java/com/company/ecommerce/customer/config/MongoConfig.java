@@ -1,12 +1,20 @@
 package com.company.ecommerce.customer.config;
 
 import com.company.ecommerce.customer.audit.AuditorAwareImpl;
+import com.company.ecommerce.customer.properties.MongoPoolProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
 @Configuration
+@ConditionalOnWebApplication(type = SERVLET)
 @EnableMongoAuditing(auditorAwareRef = "auditorAware")
 public class MongoConfig {
 
@@ -15,4 +23,11 @@ public class MongoConfig {
         return new AuditorAwareImpl();
     }
 
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(MongoPoolProperties poolProperties) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(poolProperties.maxSize())
+                .maxWaitTime(poolProperties.maxWaitTime().toMillis(), TimeUnit.MILLISECONDS));
+    }
+
 }
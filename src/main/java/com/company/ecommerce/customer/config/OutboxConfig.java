@@ -0,0 +1,32 @@
+package com.company.ecommerce.customer.config;
+
+import com.company.ecommerce.customer.outbox.CustomerEventPublisher;
+import com.company.ecommerce.customer.outbox.InMemoryCustomerEventPublisher;
+import com.company.ecommerce.customer.properties.CustomerOutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@Configuration
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(prefix = "customer.outbox", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(CustomerEventPublisher.class)
+    public CustomerEventPublisher customerEventPublisher(CustomerOutboxProperties outboxProperties) {
+        return new InMemoryCustomerEventPublisher(outboxProperties.inMemoryCapacity());
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.company.ecommerce.customer.config;
+
+import com.company.ecommerce.customer.audit.ReactiveAuditorAwareImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+@Configuration
+@ConditionalOnWebApplication(type = REACTIVE)
+@EnableReactiveMongoAuditing(auditorAwareRef = "reactiveAuditorAware")
+public class ReactiveMongoConfig {
+
+    @Bean
+    public ReactiveAuditorAware<String> reactiveAuditorAware() {
+        return new ReactiveAuditorAwareImpl();
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.company.ecommerce.customer.config;
+
+import com.company.ecommerce.customer.authorization.HasAnyAuthority;
+import com.company.ecommerce.customer.authorization.ReactiveHasAnyAuthorityAuthorizationManager;
+import com.company.ecommerce.customer.converter.OktaRoleConverter;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.Pointcuts;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeReactiveMethodInterceptor;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.ReactiveJwtAuthenticationConverterAdapter;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+@Configuration
+@ConditionalOnWebApplication(type = REACTIVE)
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity(proxyTargetClass = true)
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        http.authorizeExchange(authorize -> authorize
+                        .pathMatchers("/actuator/customer/**").permitAll()
+                        .anyExchange().authenticated())
+                .oauth2ResourceServer(oauth -> oauth
+                        .jwt(jwtSpec -> jwtSpec.jwtAuthenticationConverter(jwtAuthConverter())))
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+        return http.build();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor hasAnyAuthorityAuthorizationAdvisor() {
+        var pointcut = Pointcuts.union(new AnnotationMatchingPointcut(HasAnyAuthority.class, true),
+                new AnnotationMatchingPointcut(null, HasAnyAuthority.class, true));
+        var interceptor = new AuthorizationManagerBeforeReactiveMethodInterceptor(pointcut,
+                new ReactiveHasAnyAuthorityAuthorizationManager());
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
+    private Converter<Jwt, ? extends Mono<? extends AbstractAuthenticationToken>> jwtAuthConverter() {
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(new OktaRoleConverter());
+        return new ReactiveJwtAuthenticationConverterAdapter(converter);
+    }
+
+}
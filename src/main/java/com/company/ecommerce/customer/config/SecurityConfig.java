@@ -1,34 +1,80 @@
 package com.company.ecommerce.customer.config;
 
+import com.company.ecommerce.customer.authorization.HasAnyAuthority;
+import com.company.ecommerce.customer.authorization.HasAnyAuthorityAuthorizationManager;
+import com.company.ecommerce.customer.cache.JwkSetCache;
+import com.company.ecommerce.customer.cache.JwtAuthenticationCache;
 import com.company.ecommerce.customer.converter.OktaRoleConverter;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.Pointcuts;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.JwkSetUriJwtDecoderBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 import org.springframework.security.web.SecurityFilterChain;
 
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
 @Configuration
+@ConditionalOnWebApplication(type = SERVLET)
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtDecoder jwtDecoder,
+                                                   JwtAuthenticationCache jwtAuthenticationCache) throws Exception {
         http.authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/actuator/customer/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated())
                 .oauth2ResourceServer(oauth -> oauth
-                        .jwt(jwtConfigurer -> jwtConfigurer.jwtAuthenticationConverter(jwtAuthConverter())))
+                        .jwt(jwtConfigurer -> jwtConfigurer
+                                .authenticationManager(jwtAuthManager(jwtDecoder, jwtAuthenticationCache))))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
         return http.build();
     }
 
+    @Bean
+    public JwkSetUriJwtDecoderBuilderCustomizer jwkSetCacheCustomizer(JwkSetCache jwkSetCache) {
+        return builder -> builder.cache(jwkSetCache);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor hasAnyAuthorityAuthorizationAdvisor() {
+        var pointcut = Pointcuts.union(new AnnotationMatchingPointcut(HasAnyAuthority.class, true),
+                new AnnotationMatchingPointcut(null, HasAnyAuthority.class, true));
+        var interceptor = new AuthorizationManagerBeforeMethodInterceptor(pointcut,
+                new HasAnyAuthorityAuthorizationManager());
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
+    private AuthenticationManager jwtAuthManager(JwtDecoder jwtDecoder, JwtAuthenticationCache jwtAuthenticationCache) {
+        var provider = new JwtAuthenticationProvider(jwtDecoder);
+        provider.setJwtAuthenticationConverter(jwtAuthConverter());
+        return authentication -> jwtAuthenticationCache.get(
+                ((BearerTokenAuthenticationToken) authentication).getToken(),
+                token -> provider.authenticate(authentication));
+    }
+
     private Converter<Jwt,? extends AbstractAuthenticationToken> jwtAuthConverter() {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
         converter.setJwtGrantedAuthoritiesConverter(new OktaRoleConverter());
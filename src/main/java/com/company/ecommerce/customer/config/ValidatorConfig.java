@@ -1,10 +1,13 @@
 package com.company.ecommerce.customer.config;
 
+import com.company.ecommerce.customer.validation.CachingMessageInterpolator;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.MessageSourceResourceBundleLocator;
 
 @Configuration
 @RequiredArgsConstructor
@@ -15,7 +18,9 @@ public class ValidatorConfig {
     @Bean
     public LocalValidatorFactoryBean getValidator() {
         LocalValidatorFactoryBean bean = new LocalValidatorFactoryBean();
-        bean.setValidationMessageSource(messageSource);
+        bean.setMessageInterpolator(new CachingMessageInterpolator(
+                new ResourceBundleMessageInterpolator(new MessageSourceResourceBundleLocator(messageSource)),
+                messageSource));
         return bean;
     }
 
@@ -9,9 +9,32 @@ public final class CommonConstant {
     public static final int MAX_LIST_SIZE = 5;
     public static final int MAX_ARRAY_SIZE = 5;
 
+    public static final String DEFAULT_PAGE_SIZE = "50";
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_LOOKUP_ITEMS = 500;
+    public static final int EXPORT_BATCH_SIZE = 1000;
+    public static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
     public static final String X_API_VERSION_V1 = "X-Api-Version=v1";
+    public static final String APPLICATION_MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
 
     public static final String CUSTOMER_NOT_FOUND_KEY = "message.customer.not-found";
+    public static final String CUSTOMER_EMAIL_NOT_FOUND_KEY = "message.customer.email.not-found";
+    public static final String CUSTOMER_VERSION_MISMATCH_KEY = "message.customer.version.mismatch";
+    public static final String CUSTOMER_REQUIRED_KEY = "message.customer.required";
+    public static final String CUSTOMER_EMAIL_DUPLICATED_KEY = "message.customer.email.duplicated";
+    public static final String CUSTOMER_BULK_MAX_ITEMS_EXCEEDED_KEY = "message.customer.bulk.max-items-exceeded";
+    public static final String CUSTOMER_LOOKUP_MAX_ITEMS_EXCEEDED_KEY = "message.customer.lookup.max-items-exceeded";
+    public static final String CUSTOMER_PATCH_UNKNOWN_FIELD_KEY = "message.customer.patch.unknown-field";
+    public static final String CUSTOMER_PATCH_INVALID_VALUE_KEY = "message.customer.patch.invalid-value";
+    public static final String CUSTOMER_FIELDS_UNKNOWN_FIELD_KEY = "message.customer.fields.unknown-field";
+    public static final String CUSTOMER_CHANGES_INVALID_RESUME_TOKEN_KEY = "message.customer.changes.invalid-resume-token";
+    public static final String CUSTOMER_CHANGES_CATCH_UP_LIMIT_REACHED_KEY = "message.customer.changes.catch-up-limit-reached";
+    public static final String CUSTOMER_SEARCH_CRITERIA_REQUIRED_KEY = "message.customer.search.criteria-required";
+    public static final String CUSTOMER_SEARCH_STATE_WITHOUT_COUNTRY_KEY = "message.customer.search.state-without-country";
+    public static final String CUSTOMER_SEARCH_INVALID_CURSOR_KEY = "message.customer.search.invalid-cursor";
     public static final String CUSTOMER_FIRSTNAME_REQUIRED_KEY = "{message.customer.first-name.required}";
     public static final String CUSTOMER_LASTNAME_REQUIRED_KEY = "{message.customer.last-name.required}";
     public static final String CUSTOMER_EMAIL_REQUIRED_KEY = "{message.customer.email.required}";
@@ -0,0 +1,37 @@
+package com.company.ecommerce.customer.controller;
+
+import com.company.ecommerce.customer.api.CustomerChangeApi;
+import com.company.ecommerce.customer.authorization.HasAnyAuthority;
+import com.company.ecommerce.customer.service.CustomerChangeService;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.X_API_VERSION_V1;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(prefix = "customer.change-stream", name = "enabled", havingValue = "true")
+@RequestMapping(value = "/api/customers", headers = X_API_VERSION_V1)
+@RequiredArgsConstructor
+@Tag(name = "Customer changes", description = "Stream of customer creations, updates and deletions")
+@SecurityRequirement(name = "SecurityToken")
+@HasAnyAuthority({ "ADMINISTRATOR", "CUSTOMER MANAGER" })
+public class CustomerChangeController implements CustomerChangeApi {
+
+    private final CustomerChangeService customerChangeService;
+
+    @Override
+    public SseEmitter subscribeToChanges(String lastEventId, String resumeAfter) {
+        var resumeToken = StringUtils.hasText(lastEventId) ? lastEventId : resumeAfter;
+        return this.customerChangeService.subscribeToChanges(resumeToken);
+    }
+
+}
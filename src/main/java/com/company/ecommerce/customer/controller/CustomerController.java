@@ -1,62 +1,148 @@
 package com.company.ecommerce.customer.controller;
 
 import com.company.ecommerce.customer.api.CustomerApi;
+import com.company.ecommerce.customer.authorization.HasAnyAuthority;
+import com.company.ecommerce.customer.dto.BulkCustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerBatchResponse;
+import com.company.ecommerce.customer.dto.CustomerEmailLookupResponse;
+import com.company.ecommerce.customer.dto.CustomerPageResponse;
 import com.company.ecommerce.customer.dto.CustomerRequest;
 import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
+import com.company.ecommerce.customer.mapper.CustomerETags;
+import com.company.ecommerce.customer.mapper.CustomerFields;
 import com.company.ecommerce.customer.service.CustomerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static com.company.ecommerce.customer.constant.CommonConstant.X_API_VERSION_V1;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 
 @RestController
+@ConditionalOnWebApplication(type = SERVLET)
 @RequestMapping(value = "/api/customers", headers = X_API_VERSION_V1)
 @RequiredArgsConstructor
 @Tag(name = "Customer", description = "Operations CRUD about customer")
 @SecurityRequirement(name = "SecurityToken")
-@PreAuthorize("hasAnyAuthority('ADMINISTRATOR', 'CUSTOMER MANAGER')")
+@HasAnyAuthority({ "ADMINISTRATOR", "CUSTOMER MANAGER" })
 public class CustomerController implements CustomerApi {
 
     private final CustomerService customerService;
+    private final ObjectMapper objectMapper;
 
     @Override
-    public ResponseEntity<List<CustomerResponse>> findAllCustomers() {
-        var customerResponses = this.customerService.findAllCustomers();
-        return ResponseEntity.status(OK).body(customerResponses);
+    public ResponseEntity<CustomerPageResponse> findAllCustomers(String cursor, int size, String fields) {
+        var customerPageResponse = this.customerService.findAllCustomers(cursor, size, fields);
+        return ResponseEntity.status(OK).body(customerPageResponse);
     }
 
     @Override
-    public ResponseEntity<CustomerResponse> findCustomerById(String id) {
-        var customerResponse = this.customerService.findCustomerById(id);
+    public ResponseEntity<CustomerPageResponse> searchCustomers(String firstName, String lastName, String email,
+                                                                String city, String state, String country,
+                                                                String cursor, int size) {
+        var criteria = new CustomerSearchCriteria(firstName, lastName, email, city, state, country);
+        var customerPageResponse = this.customerService.searchCustomers(criteria, cursor, size);
+        return ResponseEntity.status(OK).body(customerPageResponse);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCustomers() {
+        StreamingResponseBody responseBody = outputStream -> {
+            try (var customerResponses = this.customerService.exportCustomers()) {
+                var iterator = customerResponses.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(this.objectMapper.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.status(OK).contentType(APPLICATION_NDJSON).body(responseBody);
+    }
+
+    @Override
+    public ResponseEntity<CustomerResponse> findCustomerById(String id, String fields, String ifNoneMatch) {
+        var selectedFields = CustomerFields.parse(fields);
+        if (Objects.nonNull(ifNoneMatch) && CustomerFields.findUnknown(selectedFields).isEmpty()) {
+            var eTag = CustomerETags.toETag(id, this.customerService.findCustomerVersionById(id), selectedFields);
+            if (CustomerETags.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+        var customerResponse = this.customerService.findCustomerById(id, fields);
+        return ResponseEntity.status(OK)
+                .eTag(CustomerETags.toETag(id, customerResponse.version(), selectedFields))
+                .body(customerResponse);
+    }
+
+    @Override
+    public ResponseEntity<CustomerBatchResponse> findCustomersByIds(List<String> ids) {
+        var customerBatchResponse = this.customerService.findCustomersByIds(ids);
+        return ResponseEntity.status(OK).body(customerBatchResponse);
+    }
+
+    @Override
+    public ResponseEntity<CustomerResponse> findCustomerByEmail(String email) {
+        var customerResponse = this.customerService.findCustomerByEmail(email);
         return ResponseEntity.status(OK).body(customerResponse);
     }
 
+    @Override
+    public ResponseEntity<CustomerEmailLookupResponse> findCustomerIdsByEmails(List<String> emails) {
+        var customerEmailLookupResponse = this.customerService.findCustomerIdsByEmails(emails);
+        return ResponseEntity.status(OK).body(customerEmailLookupResponse);
+    }
+
     @Override
     public ResponseEntity<CustomerResponse> createCustomer(CustomerRequest customerRequest) {
         var customerResponse = this.customerService.createCustomer(customerRequest);
-        return ResponseEntity.status(CREATED).body(customerResponse);
+        return ResponseEntity.status(CREATED)
+                .eTag(CustomerETags.toETag(customerResponse.id(), customerResponse.version()))
+                .body(customerResponse);
+    }
+
+    @Override
+    public ResponseEntity<BulkCustomerResponse> createCustomers(List<CustomerRequest> customerRequests) {
+        var bulkCustomerResponse = this.customerService.createCustomers(customerRequests);
+        return ResponseEntity.status(OK).body(bulkCustomerResponse);
     }
 
     @Override
     public ResponseEntity<CustomerResponse> updateCustomerById(
-            String id, CustomerRequest customerRequest) {
-        var customerResponse = this.customerService.updateCustomerById(id, customerRequest);
-        return ResponseEntity.status(OK).body(customerResponse);
+            String id, CustomerRequest customerRequest, String ifMatch) {
+        var expectedVersion = CustomerETags.toExpectedVersion(id, ifMatch);
+        var customerResponse = this.customerService.updateCustomerById(id, customerRequest, expectedVersion);
+        return ResponseEntity.status(OK)
+                .eTag(CustomerETags.toETag(id, customerResponse.version()))
+                .body(customerResponse);
+    }
+
+    @Override
+    public ResponseEntity<CustomerResponse> patchCustomerById(String id, Map<String, Object> customerPatch) {
+        var customerResponse = this.customerService.patchCustomerById(id, customerPatch);
+        return ResponseEntity.status(OK)
+                .eTag(CustomerETags.toETag(id, customerResponse.version()))
+                .body(customerResponse);
     }
 
     @Override
-    public ResponseEntity<Void> deleteCustomerById(String id) {
-        this.customerService.deleteCustomerById(id);
+    public ResponseEntity<Void> deleteCustomerById(String id, String ifMatch) {
+        this.customerService.deleteCustomerById(id, CustomerETags.toExpectedVersion(id, ifMatch));
         return ResponseEntity.status(NO_CONTENT).build();
     }
 
@@ -0,0 +1,71 @@
+package com.company.ecommerce.customer.controller;
+
+import com.company.ecommerce.customer.api.ReactiveCustomerApi;
+import com.company.ecommerce.customer.authorization.HasAnyAuthority;
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.service.ReactiveCustomerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.X_API_VERSION_V1;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequestMapping(value = "/api/customers", headers = X_API_VERSION_V1)
+@RequiredArgsConstructor
+@HasAnyAuthority({ "ADMINISTRATOR", "CUSTOMER MANAGER" })
+public class ReactiveCustomerController implements ReactiveCustomerApi {
+
+    private final ReactiveCustomerService reactiveCustomerService;
+
+    @Override
+    public Flux<CustomerResponse> findAllCustomers() {
+        return this.reactiveCustomerService.findAllCustomers();
+    }
+
+    @Override
+    public Mono<ResponseEntity<CustomerResponse>> findCustomerById(String id, Locale locale) {
+        return this.reactiveCustomerService.findCustomerById(id, locale)
+                .map(customerResponse -> ResponseEntity.status(OK).body(customerResponse));
+    }
+
+    @Override
+    public Mono<ResponseEntity<CustomerResponse>> createCustomer(CustomerRequest customerRequest) {
+        return this.reactiveCustomerService.createCustomer(customerRequest)
+                .map(customerResponse -> ResponseEntity.status(CREATED).body(customerResponse));
+    }
+
+    @Override
+    public Mono<ResponseEntity<CustomerResponse>> updateCustomerById(
+            String id, CustomerRequest customerRequest, Locale locale) {
+        return this.reactiveCustomerService.updateCustomerById(id, customerRequest, locale)
+                .map(customerResponse -> ResponseEntity.status(OK).body(customerResponse));
+    }
+
+    @Override
+    public Mono<ResponseEntity<CustomerResponse>> patchCustomerById(
+            String id, Map<String, Object> customerPatch, Locale locale) {
+        return this.reactiveCustomerService.patchCustomerById(id, customerPatch, locale)
+                .map(customerResponse -> ResponseEntity.status(OK).body(customerResponse));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteCustomerById(String id, Locale locale) {
+        return this.reactiveCustomerService.deleteCustomerById(id, locale)
+                .then(Mono.fromSupplier(() -> ResponseEntity.status(NO_CONTENT).build()));
+    }
+
+}
@@ -7,8 +7,8 @@ import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class OktaRoleConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
 
@@ -18,11 +18,15 @@ public class OktaRoleConverter implements Converter<Jwt, Collection<GrantedAutho
             return List.of();
         }
 
-        final List<String> roles = (List<String>) jwt.getClaims().get("roles");
+        final List<String> roles = jwt.getClaimAsStringList("roles");
+        if (Objects.isNull(roles)) {
+            return List.of();
+        }
+
         return roles.stream()
-                .map(String::toUpperCase)
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+                .map(role -> role.toUpperCase(Locale.ROOT))
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
     }
 
 }
@@ -0,0 +1,22 @@
+package com.company.ecommerce.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "BulkCustomerItemResponse", description = "Scheme to respond the result of one bulk customer")
+public record BulkCustomerItemResponse(
+
+        @Schema(name = "index", description = "Position of the customer in the request", example = "0")
+        int index,
+
+        @Schema(name = "status", description = "Result of the customer", example = "CREATED")
+        BulkItemStatus status,
+
+        @Schema(name = "id", description = "Customer id when created", example = "66a680bb38fd8f5c93f3d220")
+        String id,
+
+        @Schema(name = "message", description = "Reason when not created", example = "Email jdoe@gmail.com is already registered")
+        String message
+
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.company.ecommerce.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "BulkCustomerResponse", description = "Scheme to respond the result of a bulk of customers")
+public record BulkCustomerResponse(
+
+        @Schema(name = "created", description = "Number of customers created", example = "2")
+        int created,
+
+        @Schema(name = "failed", description = "Number of customers not created", example = "1")
+        int failed,
+
+        @Schema(name = "items", description = "Result of each customer in request order")
+        List<BulkCustomerItemResponse> items
+
+) {
+
+}
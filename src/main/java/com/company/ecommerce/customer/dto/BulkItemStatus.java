@@ -0,0 +1,10 @@
+package com.company.ecommerce.customer.dto;
+
+public enum BulkItemStatus {
+
+    CREATED,
+    INVALID,
+    CONFLICT,
+    FAILED
+
+}
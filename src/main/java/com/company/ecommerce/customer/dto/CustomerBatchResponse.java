@@ -0,0 +1,18 @@
+package com.company.ecommerce.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "CustomerBatchResponse", description = "Schema to respond the customers found by id")
+public record CustomerBatchResponse(
+
+        @Schema(name = "customers", description = "Customers found, in request order")
+        List<CustomerResponse> customers,
+
+        @Schema(name = "missingIds", description = "Requested ids without a customer")
+        List<String> missingIds
+
+) {
+
+}
@@ -0,0 +1,32 @@
+package com.company.ecommerce.customer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@JsonInclude(NON_NULL)
+@Schema(name = "CustomerChangeEvent", description = "Scheme to respond a customer change")
+public record CustomerChangeEvent(
+
+        @Schema(name = "resumeToken", description = "Token to resume the change stream after this change",
+                example = "8266F1A2B3000000012B022C0100296E5A1004")
+        String resumeToken,
+
+        @Schema(name = "type", description = "Change type", example = "UPDATED")
+        CustomerChangeType type,
+
+        @Schema(name = "customerId", description = "Customer id", example = "66a680bb38fd8f5c93f3d220")
+        String customerId,
+
+        @Schema(name = "customer", description = "Customer after the change, absent when it was deleted")
+        CustomerResponse customer,
+
+        @Schema(name = "occurredAt", description = "Time the change was committed", example = "2024-09-23T10:15:30Z")
+        Instant occurredAt
+
+) {
+
+}
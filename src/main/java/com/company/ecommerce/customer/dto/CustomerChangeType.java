@@ -0,0 +1,9 @@
+package com.company.ecommerce.customer.dto;
+
+public enum CustomerChangeType {
+
+    CREATED,
+    UPDATED,
+    DELETED
+
+}
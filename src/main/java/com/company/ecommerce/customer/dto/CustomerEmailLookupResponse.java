@@ -0,0 +1,18 @@
+package com.company.ecommerce.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "CustomerEmailLookupResponse", description = "Schema to respond the customer ids found by email")
+public record CustomerEmailLookupResponse(
+
+        @Schema(name = "customers", description = "Customer ids found, in request order")
+        List<CustomerEmailResponse> customers,
+
+        @Schema(name = "missingEmails", description = "Requested emails without a customer")
+        List<String> missingEmails
+
+) {
+
+}
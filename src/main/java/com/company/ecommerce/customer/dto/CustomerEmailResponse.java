@@ -0,0 +1,16 @@
+package com.company.ecommerce.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "CustomerEmailResponse", description = "Schema to respond the id registered for an email")
+public record CustomerEmailResponse(
+
+        @Schema(name = "email", description = "Customer email", example = "jdoe@gmail.com")
+        String email,
+
+        @Schema(name = "id", description = "Customer id", example = "66a680bb38fd8f5c93f3d220")
+        String id
+
+) {
+
+}
@@ -0,0 +1,34 @@
+package com.company.ecommerce.customer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@JsonInclude(NON_NULL)
+@Schema(name = "CustomerEvent", description = "Scheme to publish a customer change from the outbox")
+public record CustomerEvent(
+
+        @Schema(name = "id", description = "Event id, unique per change", example = "66f1a2b3c4d5e6f708192a3b")
+        String id,
+
+        @Schema(name = "type", description = "Change type", example = "UPDATED")
+        CustomerChangeType type,
+
+        @Schema(name = "customerId", description = "Customer id", example = "66a680bb38fd8f5c93f3d220")
+        String customerId,
+
+        @Schema(name = "customerVersion", description = "Customer version written by the change", example = "3")
+        Integer customerVersion,
+
+        @Schema(name = "customer", description = "Customer after the change, absent when it was deleted")
+        CustomerResponse customer,
+
+        @Schema(name = "occurredAt", description = "Time the change was written", example = "2024-09-23T10:15:30Z")
+        Instant occurredAt
+
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.company.ecommerce.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "CustomerPageResponse", description = "Scheme to respond a page of customers")
+public record CustomerPageResponse(
+
+        @Schema(name = "customers", description = "Customers of the page ordered by id")
+        List<CustomerResponse> customers,
+
+        @Schema(name = "nextCursor", description = "Cursor to request the next page, null on the last page",
+                example = "66a680bb38fd8f5c93f3d220")
+        String nextCursor
+
+) {
+
+}
@@ -1,5 +1,6 @@
 package com.company.ecommerce.customer.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(name = "CustomerResponse", description = "Scheme to respond customer information")
@@ -20,8 +21,17 @@ public record CustomerResponse(
         @Schema(name = "phoneNumber", description = "Customer phone number", example = "+51 962329330")
         String phoneNumber,
 
-        AddressResponse address
+        AddressResponse address,
+
+        @JsonIgnore
+        @Schema(hidden = true)
+        Integer version
 
 ) {
 
+    public CustomerResponse(String id, String firstName, String lastName, String email, String phoneNumber,
+                            AddressResponse address) {
+        this(id, firstName, lastName, email, phoneNumber, address, null);
+    }
+
 }
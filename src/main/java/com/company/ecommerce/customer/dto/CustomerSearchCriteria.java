@@ -0,0 +1,36 @@
+package com.company.ecommerce.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.util.StringUtils;
+
+import java.util.stream.Stream;
+
+@Schema(name = "CustomerSearchCriteria", description = "Schema to search customers, every filter is optional")
+public record CustomerSearchCriteria(
+
+        @Schema(name = "firstName", description = "Prefix of the customer first name", example = "Jo")
+        String firstName,
+
+        @Schema(name = "lastName", description = "Prefix of the customer last name", example = "Do")
+        String lastName,
+
+        @Schema(name = "email", description = "Customer email", example = "jdoe@gmail.com")
+        String email,
+
+        @Schema(name = "city", description = "Customer city", example = "Chicago")
+        String city,
+
+        @Schema(name = "state", description = "Customer state, requires the country", example = "Illinois")
+        String state,
+
+        @Schema(name = "country", description = "Customer country", example = "USA")
+        String country
+
+) {
+
+    public boolean isEmpty() {
+        return Stream.of(firstName, lastName, email, city, state, country)
+                .noneMatch(StringUtils::hasText);
+    }
+
+}
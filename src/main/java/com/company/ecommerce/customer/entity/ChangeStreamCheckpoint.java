@@ -0,0 +1,28 @@
+package com.company.ecommerce.customer.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "change_stream_checkpoints")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class ChangeStreamCheckpoint {
+
+    @Id
+    private String id;
+
+    private String resumeToken;
+
+    private LocalDateTime modifiedAt;
+
+}
@@ -7,10 +7,15 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "customers")
+@CompoundIndex(name = "ix_last_name_first_name", def = "{'lastName': 1, 'firstName': 1, '_id': 1}")
+@CompoundIndex(name = "ix_first_name", def = "{'firstName': 1, '_id': 1}")
+@CompoundIndex(name = "ix_address_country_state_city", def = "{'address.country': 1, 'address.state': 1, 'address.city': 1, '_id': 1}")
+@CompoundIndex(name = "ix_address_city", def = "{'address.city': 1, '_id': 1}")
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -0,0 +1,42 @@
+package com.company.ecommerce.customer.entity;
+
+import com.company.ecommerce.customer.dto.CustomerChangeType;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "customer_outbox")
+@CompoundIndex(name = "ix_lease_until_id", def = "{'leaseUntil': 1, '_id': 1}")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class OutboxEvent {
+
+    @Id
+    private String id;
+
+    private CustomerChangeType type;
+
+    private String customerId;
+
+    private Integer customerVersion;
+
+    private CustomerResponse customer;
+
+    private Instant occurredAt;
+
+    private String claimedBy;
+
+    private Instant leaseUntil;
+
+}
@@ -0,0 +1,17 @@
+package com.company.ecommerce.customer.exception;
+
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(MessageSource messageSource, String key, String id, Locale locale) {
+        super(messageSource.getMessage(key, new Object[] { id }, locale));
+    }
+
+}
@@ -7,11 +7,11 @@ import java.util.Locale;
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public ResourceNotFoundException(MessageSource messageSource, String key, String id, Locale locale) {
-        super(messageSource.getMessage(key, new Object[] { id }, locale));
+        this(messageSource.getMessage(key, new Object[] { id }, locale));
     }
 
 }
@@ -0,0 +1,19 @@
+package com.company.ecommerce.customer.exception;
+
+import lombok.Getter;
+import org.springframework.context.MessageSource;
+
+import java.time.Duration;
+import java.util.Locale;
+
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(MessageSource messageSource, String key, Duration retryAfter, Locale locale) {
+        super(messageSource.getMessage(key, new Object[] { retryAfter.toSeconds() }, locale));
+        this.retryAfter = retryAfter;
+    }
+
+}
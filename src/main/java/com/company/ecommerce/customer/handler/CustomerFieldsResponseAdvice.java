@@ -0,0 +1,56 @@
+package com.company.ecommerce.customer.handler;
+
+import com.company.ecommerce.customer.controller.CustomerController;
+import com.company.ecommerce.customer.mapper.CustomerFields;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@ControllerAdvice(assignableTypes = CustomerController.class)
+@ConditionalOnWebApplication(type = SERVLET)
+public class CustomerFieldsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String FIELDS_PARAMETER = "fields";
+
+    private final ObjectMapper projectionMapper;
+
+    public CustomerFieldsResponseAdvice(ObjectMapper objectMapper) {
+        this.projectionMapper = objectMapper.copy().setSerializationInclusion(NON_NULL);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                && Objects.nonNull(returnType.getMethod())
+                && Arrays.stream(returnType.getMethod().getParameters())
+                        .anyMatch(parameter -> FIELDS_PARAMETER.equals(parameter.getName()));
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (Objects.nonNull(body)
+                && request instanceof ServletServerHttpRequest servletRequest
+                && CustomerFields.isProjection(CustomerFields.parse(
+                        servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER)))) {
+            return projectionMapper.valueToTree(body);
+        }
+        return body;
+    }
+
+}
@@ -1,18 +1,22 @@
 package com.company.ecommerce.customer.handler;
 
 import com.company.ecommerce.customer.exception.BusinessException;
+import com.company.ecommerce.customer.exception.PreconditionFailedException;
 import com.company.ecommerce.customer.exception.ResourceNotFoundException;
+import com.company.ecommerce.customer.exception.ServiceUnavailableException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
-import org.springframework.validation.ObjectError;
+import org.springframework.web.ErrorResponseException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +28,8 @@ import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 @RestControllerAdvice
@@ -35,6 +41,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(INTERNAL_SERVER_ERROR).body(problemDetail);
     }
 
+    @ExceptionHandler(ErrorResponseException.class)
+    public ResponseEntity<ProblemDetail> handleErrorResponseException(ErrorResponseException ex) {
+        return ResponseEntity.status(ex.getStatusCode()).body(ex.getBody());
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ProblemDetail> handleAccessDeniedException(AccessDeniedException ex) {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(FORBIDDEN, ex.getMessage());
@@ -47,6 +58,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(NOT_FOUND).body(problemDetail);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ProblemDetail> handlePreconditionFailedException(PreconditionFailedException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(PRECONDITION_FAILED, ex.getMessage());
+        return ResponseEntity.status(PRECONDITION_FAILED).body(problemDetail);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(SERVICE_UNAVAILABLE, ex.getMessage());
+        return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(problemDetail);
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ProblemDetail> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(CONFLICT, ex.getMessage());
@@ -61,23 +86,22 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ProblemDetail> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
-        Map<String, Object> validationMap = new HashMap<>();
-        List<ObjectError> validations = ex.getBindingResult().getAllErrors();
+        ProblemDetail problemDetail = ProblemDetail.forStatus(BAD_REQUEST);
+        problemDetail.setProperty("validations", toValidationMap(ex.getBindingResult().getFieldErrors()));
+        return ResponseEntity.status(BAD_REQUEST).body(problemDetail);
+    }
 
-        validations.forEach(validation -> {
-            String fieldName = ((FieldError) validation).getField();
-            String validationMessage = validation.getDefaultMessage();
-            validationMap.put(fieldName, validationMessage);
-        });
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ProblemDetail> handleWebExchangeBindException(WebExchangeBindException ex) {
         ProblemDetail problemDetail = ProblemDetail.forStatus(BAD_REQUEST);
-        problemDetail.setProperty("validations", validationMap);
+        problemDetail.setProperty("validations", toValidationMap(ex.getBindingResult().getFieldErrors()));
         return ResponseEntity.status(BAD_REQUEST).body(problemDetail);
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ProblemDetail> handleConstraintViolationException(ConstraintViolationException ex) {
-        Map<String, Object> violationMap = new HashMap<>();
         Set<ConstraintViolation<?>> violations = ex.getConstraintViolations();
+        Map<String, Object> violationMap = HashMap.newHashMap(violations.size());
 
         violations.forEach(violation -> {
             String fieldName = violation.getPropertyPath().toString();
@@ -89,4 +113,10 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(BAD_REQUEST).body(problemDetail);
     }
 
+    private static Map<String, Object> toValidationMap(List<FieldError> validations) {
+        Map<String, Object> validationMap = HashMap.newHashMap(validations.size());
+        validations.forEach(validation -> validationMap.put(validation.getField(), validation.getDefaultMessage()));
+        return validationMap;
+    }
+
 }
@@ -0,0 +1,98 @@
+package com.company.ecommerce.customer.i18n;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Objects;
+
+final class MessageTemplate {
+
+    private final String pattern;
+    private final MessageFormat messageFormat;
+    private final String[] literals;
+    private final int[] argumentIndexes;
+
+    private MessageTemplate(String pattern, MessageFormat messageFormat, String[] literals, int[] argumentIndexes) {
+        this.pattern = pattern;
+        this.messageFormat = messageFormat;
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+    }
+
+    static MessageTemplate parse(String pattern, Locale locale) {
+        MessageFormat messageFormat;
+        try {
+            messageFormat = new MessageFormat(pattern, locale);
+        } catch (IllegalArgumentException ex) {
+            messageFormat = null;
+        }
+
+        if (Objects.isNull(messageFormat) || pattern.indexOf('\'') >= 0) {
+            return new MessageTemplate(pattern, messageFormat, null, null);
+        }
+
+        var literals = new ArrayList<String>();
+        var argumentIndexes = new ArrayList<Integer>();
+        var start = 0;
+        var open = pattern.indexOf('{');
+        while (open >= 0) {
+            var close = pattern.indexOf('}', open);
+            var argumentIndex = close > open + 1 ? parseArgumentIndex(pattern.substring(open + 1, close)) : -1;
+            if (argumentIndex < 0) {
+                return new MessageTemplate(pattern, messageFormat, null, null);
+            }
+            literals.add(pattern.substring(start, open));
+            argumentIndexes.add(argumentIndex);
+            start = close + 1;
+            open = pattern.indexOf('{', start);
+        }
+        literals.add(pattern.substring(start));
+        return new MessageTemplate(pattern, messageFormat, literals.toArray(String[]::new),
+                argumentIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    String pattern() {
+        return pattern;
+    }
+
+    String format(Object[] args) {
+        if (Objects.isNull(messageFormat)) {
+            throw new IllegalArgumentException("Message pattern can not be formatted: " + pattern);
+        }
+        if (Objects.isNull(literals) || !areTextArguments(args)) {
+            return ((MessageFormat) messageFormat.clone()).format(args);
+        }
+
+        var message = new StringBuilder(pattern.length() + 32).append(literals[0]);
+        for (var i = 0; i < argumentIndexes.length; i++) {
+            var argumentIndex = argumentIndexes[i];
+            if (argumentIndex < args.length) {
+                message.append(args[argumentIndex]);
+            } else {
+                message.append('{').append(argumentIndex).append('}');
+            }
+            message.append(literals[i + 1]);
+        }
+        return message.toString();
+    }
+
+    private boolean areTextArguments(Object[] args) {
+        for (var argumentIndex : argumentIndexes) {
+            if (argumentIndex < args.length && Objects.nonNull(args[argumentIndex])
+                    && !(args[argumentIndex] instanceof CharSequence)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int parseArgumentIndex(String argument) {
+        for (var i = 0; i < argument.length(); i++) {
+            if (!Character.isDigit(argument.charAt(i))) {
+                return -1;
+            }
+        }
+        return Integer.parseInt(argument);
+    }
+
+}
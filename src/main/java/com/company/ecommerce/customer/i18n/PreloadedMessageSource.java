@@ -0,0 +1,211 @@
+package com.company.ecommerce.customer.i18n;
+
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class PreloadedMessageSource implements MessageSource {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final PathMatchingResourcePatternResolver RESOURCE_RESOLVER =
+            new PathMatchingResourcePatternResolver();
+
+    private final Map<Locale, Map<String, MessageTemplate>> messagesByLocale;
+    private final Map<String, Map<String, MessageTemplate>> messagesByLanguage;
+    private final Map<String, MessageTemplate> defaultMessages;
+    private final Locale fallbackLocale;
+    private final boolean alwaysUseMessageFormat;
+    private final boolean useCodeAsDefaultMessage;
+
+    private PreloadedMessageSource(Map<Locale, Map<String, MessageTemplate>> messagesByLocale,
+                                   Map<String, MessageTemplate> defaultMessages,
+                                   MessageSourceProperties messageSourceProperties) {
+        this.messagesByLocale = messagesByLocale;
+        this.messagesByLanguage = messagesByLocale.entrySet().stream()
+                .filter(entry -> !StringUtils.hasText(entry.getKey().getCountry()))
+                .collect(Collectors.toUnmodifiableMap(entry -> entry.getKey().getLanguage(), Map.Entry::getValue,
+                        (first, second) -> first));
+        this.defaultMessages = defaultMessages;
+        this.fallbackLocale = messageSourceProperties.isFallbackToSystemLocale() ? Locale.getDefault() : null;
+        this.alwaysUseMessageFormat = messageSourceProperties.isAlwaysUseMessageFormat();
+        this.useCodeAsDefaultMessage = messageSourceProperties.isUseCodeAsDefaultMessage();
+    }
+
+    public static PreloadedMessageSource load(MessageSourceProperties messageSourceProperties) {
+        var basenames = StringUtils.commaDelimitedListToStringArray(
+                StringUtils.trimAllWhitespace(messageSourceProperties.getBasename()));
+        var bundles = new ArrayList<Map<Locale, Properties>>();
+        var locales = new LinkedHashSet<Locale>();
+        for (var basename : basenames) {
+            var bundle = loadBundle(basename, messageSourceProperties);
+            bundles.add(bundle);
+            bundle.keySet().stream()
+                    .filter(locale -> !Locale.ROOT.equals(locale))
+                    .forEach(locales::add);
+        }
+
+        var messagesByLocale = new HashMap<Locale, Map<String, MessageTemplate>>();
+        locales.forEach(locale -> messagesByLocale.put(locale, compile(bundles, locale)));
+        return new PreloadedMessageSource(Map.copyOf(messagesByLocale), compile(bundles, Locale.ROOT),
+                messageSourceProperties);
+    }
+
+    public Set<Locale> getLocales() {
+        return messagesByLocale.keySet();
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, String defaultMessage, Locale locale) {
+        var message = format(template(messages(locale), code), args);
+        if (Objects.nonNull(message)) {
+            return message;
+        }
+        if (Objects.nonNull(defaultMessage)) {
+            return ObjectUtils.isEmpty(args) && !alwaysUseMessageFormat
+                    ? defaultMessage
+                    : MessageTemplate.parse(defaultMessage, locale).format(args);
+        }
+        return useCodeAsDefaultMessage ? code : null;
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, Locale locale) {
+        var message = getMessage(code, args, null, locale);
+        if (Objects.isNull(message)) {
+            throw new NoSuchMessageException(code, locale);
+        }
+        return message;
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, Locale locale) {
+        var codes = Objects.requireNonNullElse(resolvable.getCodes(), new String[0]);
+        var messages = messages(locale);
+        for (var code : codes) {
+            var message = format(template(messages, code), resolvable.getArguments());
+            if (Objects.nonNull(message)) {
+                return message;
+            }
+        }
+
+        var code = codes.length > 0 ? codes[codes.length - 1] : null;
+        var message = getMessage(code, resolvable.getArguments(), resolvable.getDefaultMessage(), locale);
+        if (Objects.isNull(message)) {
+            throw new NoSuchMessageException(Objects.requireNonNullElse(code, ""), locale);
+        }
+        return message;
+    }
+
+    private Map<String, MessageTemplate> messages(Locale locale) {
+        var messages = resolve(Objects.requireNonNullElse(locale, Locale.getDefault()));
+        if (Objects.isNull(messages) && Objects.nonNull(fallbackLocale)) {
+            messages = resolve(fallbackLocale);
+        }
+        return Objects.isNull(messages) ? defaultMessages : messages;
+    }
+
+    private static MessageTemplate template(Map<String, MessageTemplate> messages, String code) {
+        return Objects.isNull(code) ? null : messages.get(code);
+    }
+
+    private Map<String, MessageTemplate> resolve(Locale locale) {
+        var messages = messagesByLocale.get(locale);
+        if (Objects.isNull(messages) && StringUtils.hasText(locale.getVariant())) {
+            messages = messagesByLocale.get(Locale.of(locale.getLanguage(), locale.getCountry()));
+        }
+        if (Objects.isNull(messages)) {
+            messages = messagesByLanguage.get(locale.getLanguage());
+        }
+        return messages;
+    }
+
+    private String format(MessageTemplate messageTemplate, Object[] args) {
+        if (Objects.isNull(messageTemplate)) {
+            return null;
+        }
+        if (ObjectUtils.isEmpty(args)) {
+            return alwaysUseMessageFormat ? messageTemplate.format(NO_ARGUMENTS) : messageTemplate.pattern();
+        }
+        return messageTemplate.format(args);
+    }
+
+    private static Map<String, MessageTemplate> compile(List<Map<Locale, Properties>> bundles, Locale locale) {
+        var patterns = new HashMap<String, String>();
+        for (var bundle : bundles.reversed()) {
+            for (var candidate : candidateLocales(locale).reversed()) {
+                var properties = bundle.get(candidate);
+                if (Objects.nonNull(properties)) {
+                    properties.stringPropertyNames().forEach(key -> patterns.put(key, properties.getProperty(key)));
+                }
+            }
+        }
+
+        var messages = new HashMap<String, MessageTemplate>();
+        patterns.forEach((code, pattern) -> messages.put(code, MessageTemplate.parse(pattern, locale)));
+        return Map.copyOf(messages);
+    }
+
+    private static List<Locale> candidateLocales(Locale locale) {
+        var candidates = new ArrayList<Locale>();
+        candidates.add(locale);
+        if (StringUtils.hasText(locale.getVariant())) {
+            candidates.add(Locale.of(locale.getLanguage(), locale.getCountry()));
+        }
+        if (StringUtils.hasText(locale.getCountry())) {
+            candidates.add(Locale.of(locale.getLanguage()));
+        }
+        if (!Locale.ROOT.equals(locale)) {
+            candidates.add(Locale.ROOT);
+        }
+        return candidates;
+    }
+
+    private static Map<Locale, Properties> loadBundle(String basename, MessageSourceProperties messageSourceProperties) {
+        var path = basename.replace('.', '/');
+        var name = StringUtils.getFilename(path);
+        var bundle = new HashMap<Locale, Properties>();
+        try {
+            var resources = RESOURCE_RESOLVER.getResources("classpath*:" + path + "*.properties");
+            for (var resource : resources) {
+                var filename = Objects.requireNonNull(resource.getFilename());
+                var suffix = filename.substring(name.length(), filename.length() - ".properties".length());
+                if (suffix.isEmpty() || suffix.charAt(0) == '_') {
+                    var locale = suffix.isEmpty() ? Locale.ROOT : StringUtils.parseLocale(suffix.substring(1));
+                    bundle.putIfAbsent(locale, loadProperties(resource, messageSourceProperties));
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bundle;
+    }
+
+    private static Properties loadProperties(Resource resource, MessageSourceProperties messageSourceProperties)
+            throws IOException {
+        var properties = new Properties();
+        try (var reader = new InputStreamReader(resource.getInputStream(), messageSourceProperties.getEncoding())) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+}
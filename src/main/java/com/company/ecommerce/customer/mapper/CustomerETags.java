@@ -0,0 +1,59 @@
+package com.company.ecommerce.customer.mapper;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class CustomerETags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final int UNMATCHABLE_VERSION = -1;
+
+    private CustomerETags() {
+    }
+
+    public static String toETag(String id, Integer version) {
+        return "\"" + id + "-" + Objects.requireNonNullElse(version, 0) + "\"";
+    }
+
+    public static String toETag(String id, Integer version, Set<String> fields) {
+        if (!CustomerFields.isProjection(fields)) {
+            return toETag(id, version);
+        }
+        return WEAK_PREFIX + "\"" + id + "-" + Objects.requireNonNullElse(version, 0) + "-"
+                + fields.stream().sorted().collect(Collectors.joining(".")) + "\"";
+    }
+
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(CustomerETags::opaqueTag)
+                .anyMatch(candidate -> ANY.equals(candidate) || opaqueTag(eTag).equals(candidate));
+    }
+
+    private static String opaqueTag(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+
+    public static Integer toExpectedVersion(String id, String ifMatch) {
+        if (!StringUtils.hasText(ifMatch) || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+
+        var prefix = "\"" + id + "-";
+        var eTag = ifMatch.trim();
+        if (!eTag.startsWith(prefix) || !eTag.endsWith("\"") || eTag.length() <= prefix.length() + 1) {
+            return UNMATCHABLE_VERSION;
+        }
+        try {
+            return Integer.valueOf(eTag.substring(prefix.length(), eTag.length() - 1));
+        } catch (NumberFormatException ex) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+
+}
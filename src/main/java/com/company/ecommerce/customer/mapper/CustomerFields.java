@@ -0,0 +1,59 @@
+package com.company.ecommerce.customer.mapper;
+
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class CustomerFields {
+
+    public static final String ID = "id";
+    public static final Set<String> SELECTABLE = Set.of(ID, "firstName", "lastName", "email", "phoneNumber", "address");
+
+    private CustomerFields() {
+    }
+
+    public static Set<String> parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return Set.of();
+        }
+        return Stream.concat(Stream.of(ID), Arrays.stream(fields.split(",")))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static Optional<String> findUnknown(Set<String> fields) {
+        return fields.stream()
+                .filter(field -> !SELECTABLE.contains(field))
+                .sorted()
+                .findFirst();
+    }
+
+    public static boolean isProjection(Set<String> fields) {
+        return !fields.isEmpty() && !fields.containsAll(SELECTABLE);
+    }
+
+    public static CustomerResponse select(CustomerResponse customerResponse, Set<String> fields) {
+        if (!isProjection(fields)) {
+            return customerResponse;
+        }
+        return new CustomerResponse(
+                customerResponse.id(),
+                selected(fields, "firstName", customerResponse.firstName()),
+                selected(fields, "lastName", customerResponse.lastName()),
+                selected(fields, "email", customerResponse.email()),
+                selected(fields, "phoneNumber", customerResponse.phoneNumber()),
+                selected(fields, "address", customerResponse.address()),
+                customerResponse.version());
+    }
+
+    private static <T> T selected(Set<String> fields, String field, T value) {
+        return fields.contains(field) ? value : null;
+    }
+
+}
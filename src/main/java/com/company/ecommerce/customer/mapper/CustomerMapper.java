@@ -5,17 +5,20 @@ import com.company.ecommerce.customer.dto.CustomerResponse;
 import com.company.ecommerce.customer.entity.Customer;
 import com.company.ecommerce.customer.mapper.annotation.ToEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = EmailNormalizer.class)
 public interface CustomerMapper {
 
     @ToEntity
+    @Mapping(target = "email", qualifiedByName = "normalizeEmail")
     Customer mapToCustomer(CustomerRequest customerRequest);
 
     CustomerResponse mapToCustomerResponse(Customer customer);
 
     @ToEntity
+    @Mapping(target = "email", qualifiedByName = "normalizeEmail")
     void mergeCustomer(CustomerRequest customerRequest, @MappingTarget Customer customer);
 
 }
@@ -0,0 +1,142 @@
+package com.company.ecommerce.customer.mapper;
+
+import com.company.ecommerce.customer.dto.AddressRequest;
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.exception.BusinessException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.context.MessageSource;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.LiteralOperators.Literal;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_PATCH_INVALID_VALUE_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_PATCH_UNKNOWN_FIELD_KEY;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerPatchMapper {
+
+    private static final String ADDRESS_FIELD = "address";
+    private static final String ADDRESS_PATH_PREFIX = ADDRESS_FIELD + ".";
+    private static final String EMAIL_FIELD = "email";
+    private static final Set<String> CUSTOMER_FIELDS = Set.of("firstName", "lastName", "email", "phoneNumber");
+    private static final Set<String> ADDRESS_FIELDS = Set.of("street", "city", "state", "zipCode", "country");
+
+    private final MessageSource messageSource;
+    private final Validator validator;
+
+    public UpdateDefinition mapToUpdate(Map<String, Object> customerPatch, Locale locale) {
+        var sets = new LinkedHashMap<String, Object>();
+        var unsets = new ArrayList<String>();
+        var violations = new HashSet<ConstraintViolation<?>>();
+
+        customerPatch.forEach((field, value) -> {
+            if (ADDRESS_FIELD.equals(field)) {
+                mapAddressToUpdate(value, sets, unsets, violations, locale);
+            } else if (CUSTOMER_FIELDS.contains(field)) {
+                var text = requireText(field, value, locale);
+                violations.addAll(validator.validateValue(CustomerRequest.class, field, text));
+                putOrUnset(field, EMAIL_FIELD.equals(field) ? EmailNormalizer.normalize(text) : text, sets, unsets);
+            } else {
+                throw businessException(CUSTOMER_PATCH_UNKNOWN_FIELD_KEY, field, locale);
+            }
+        });
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return sets.keySet().stream().anyMatch(path -> path.startsWith(ADDRESS_PATH_PREFIX))
+                ? toAddressSafePipeline(sets, unsets)
+                : toUpdate(sets, unsets);
+    }
+
+    public void mergeCustomer(Map<String, Object> customerPatch, Customer customer) {
+        var accessor = PropertyAccessorFactory.forBeanPropertyAccess(customer);
+        accessor.setAutoGrowNestedPaths(true);
+        customerPatch.forEach((field, value) -> {
+            if (value instanceof Map<?, ?> addressFields) {
+                addressFields.forEach((key, addressValue) ->
+                        accessor.setPropertyValue(ADDRESS_PATH_PREFIX + key, addressValue));
+            } else {
+                accessor.setPropertyValue(field, EMAIL_FIELD.equals(field) ? EmailNormalizer.normalize((String) value) : value);
+            }
+        });
+    }
+
+    private void mapAddressToUpdate(Object addressPatch, Map<String, Object> sets, List<String> unsets,
+                                    Set<ConstraintViolation<?>> violations, Locale locale) {
+        if (Objects.isNull(addressPatch)) {
+            unsets.add(ADDRESS_FIELD);
+            return;
+        }
+        if (!(addressPatch instanceof Map<?, ?> addressFields)) {
+            throw businessException(CUSTOMER_PATCH_INVALID_VALUE_KEY, ADDRESS_FIELD, locale);
+        }
+
+        addressFields.forEach((key, value) -> {
+            var field = String.valueOf(key);
+            var path = ADDRESS_PATH_PREFIX + field;
+            if (!ADDRESS_FIELDS.contains(field)) {
+                throw businessException(CUSTOMER_PATCH_UNKNOWN_FIELD_KEY, path, locale);
+            }
+            var text = requireText(path, value, locale);
+            violations.addAll(validator.validateValue(AddressRequest.class, field, text));
+            putOrUnset(path, text, sets, unsets);
+        });
+    }
+
+    private static void putOrUnset(String path, String value, Map<String, Object> sets, List<String> unsets) {
+        if (Objects.isNull(value)) {
+            unsets.add(path);
+        } else {
+            sets.put(path, value);
+        }
+    }
+
+    private static Update toUpdate(Map<String, Object> sets, List<String> unsets) {
+        var update = new Update();
+        sets.forEach(update::set);
+        unsets.forEach(update::unset);
+        return update;
+    }
+
+    private static AggregationUpdate toAddressSafePipeline(Map<String, Object> sets, List<String> unsets) {
+        var update = AggregationUpdate.update()
+                .set(ADDRESS_FIELD).toValue(ConditionalOperators.ifNull(ADDRESS_FIELD).then(new Document()));
+        sets.forEach((path, value) -> update.set(path).toValue(Literal.asLiteral(value)));
+        if (!unsets.isEmpty()) {
+            update.unset(unsets.toArray(String[]::new));
+        }
+        return update;
+    }
+
+    private String requireText(String field, Object value, Locale locale) {
+        if (Objects.nonNull(value) && !(value instanceof String)) {
+            throw businessException(CUSTOMER_PATCH_INVALID_VALUE_KEY, field, locale);
+        }
+        return (String) value;
+    }
+
+    private BusinessException businessException(String key, String field, Locale locale) {
+        return new BusinessException(messageSource, key, field, locale);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.company.ecommerce.customer.mapper;
+
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
+import com.company.ecommerce.customer.entity.Address;
+import com.company.ecommerce.customer.entity.Customer;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public final class CustomerSearchOrder {
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = ".";
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(SEPARATOR));
+    private static final List<String> LAST_NAME_ORDER = List.of("lastName", "firstName", ID);
+    private static final List<String> FIRST_NAME_ORDER = List.of("firstName", ID);
+    private static final List<String> ADDRESS_ORDER = List.of("address.state", "address.city", ID);
+    private static final List<String> ID_ORDER = List.of(ID);
+    private static final Map<String, Function<Customer, String>> VALUES = Map.of(
+            "lastName", Customer::getLastName,
+            "firstName", Customer::getFirstName,
+            "address.state", customer -> addressValue(customer, Address::getState),
+            "address.city", customer -> addressValue(customer, Address::getCity));
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CustomerSearchOrder() {
+    }
+
+    public static List<String> sortFields(CustomerSearchCriteria criteria) {
+        if (StringUtils.hasText(criteria.lastName())) {
+            return LAST_NAME_ORDER;
+        }
+        if (StringUtils.hasText(criteria.firstName())) {
+            return FIRST_NAME_ORDER;
+        }
+        return StringUtils.hasText(criteria.country()) ? ADDRESS_ORDER : ID_ORDER;
+    }
+
+    public static String toCursor(CustomerSearchCriteria criteria, Customer customer) {
+        var cursor = new StringJoiner(SEPARATOR);
+        sortFields(criteria).forEach(field -> cursor.add(ID.equals(field)
+                ? customer.getId()
+                : ENCODER.encodeToString(Objects.requireNonNullElse(VALUES.get(field).apply(customer), "")
+                        .getBytes(StandardCharsets.UTF_8))));
+        return cursor.toString();
+    }
+
+    public static Optional<List<String>> parseCursor(CustomerSearchCriteria criteria, String cursor) {
+        var fields = sortFields(criteria);
+        var segments = SEPARATOR_PATTERN.split(cursor, -1);
+        if (segments.length != fields.size()) {
+            return Optional.empty();
+        }
+
+        var values = new ArrayList<String>(segments.length);
+        try {
+            for (int position = 0; position < segments.length; position++) {
+                values.add(ID.equals(fields.get(position))
+                        ? segments[position]
+                        : new String(DECODER.decode(segments[position]), StandardCharsets.UTF_8));
+            }
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        return Optional.of(values);
+    }
+
+    private static String addressValue(Customer customer, Function<Address, String> field) {
+        return Optional.ofNullable(customer.getAddress())
+                .map(field)
+                .orElse(null);
+    }
+
+}
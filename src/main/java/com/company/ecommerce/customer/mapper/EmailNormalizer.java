@@ -0,0 +1,18 @@
+package com.company.ecommerce.customer.mapper;
+
+import org.mapstruct.Named;
+
+import java.util.Locale;
+import java.util.Objects;
+
+public final class EmailNormalizer {
+
+    private EmailNormalizer() {
+    }
+
+    @Named("normalizeEmail")
+    public static String normalize(String email) {
+        return Objects.isNull(email) ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
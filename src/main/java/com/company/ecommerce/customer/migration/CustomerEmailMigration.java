@@ -0,0 +1,51 @@
+package com.company.ecommerce.customer.migration;
+
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.mapper.EmailNormalizer;
+import com.company.ecommerce.customer.repository.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(prefix = "customer.migration", name = "normalize-emails", havingValue = "true",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+public class CustomerEmailMigration implements ApplicationRunner {
+
+    private final CustomerRepository customerRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try (var customers = customerRepository.streamWithDenormalizedEmail()) {
+            var results = customers.collect(Collectors.partitioningBy(this::normalizeEmail, Collectors.counting()));
+            if (results.get(true) > 0 || results.get(false) > 0) {
+                log.info("Normalized {} customer emails, {} left unchanged", results.get(true), results.get(false));
+            }
+        }
+    }
+
+    private boolean normalizeEmail(Customer customer) {
+        var email = EmailNormalizer.normalize(customer.getEmail());
+        try {
+            return customerRepository.findAndUpdateById(customer.getId(), customer.getVersion(), new Update().set("email", email))
+                    .isPresent();
+        } catch (DuplicateKeyException ex) {
+            log.warn("Email of customer {} duplicates {} once normalized, resolve it manually", customer.getId(), email);
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.company.ecommerce.customer.outbox;
+
+import com.company.ecommerce.customer.dto.CustomerEvent;
+
+import java.util.List;
+
+public interface CustomerEventPublisher {
+
+    void publish(List<CustomerEvent> events);
+
+}
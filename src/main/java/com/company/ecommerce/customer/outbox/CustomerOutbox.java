@@ -0,0 +1,42 @@
+package com.company.ecommerce.customer.outbox;
+
+import com.company.ecommerce.customer.dto.CustomerChangeType;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.entity.OutboxEvent;
+import com.company.ecommerce.customer.properties.CustomerOutboxProperties;
+import com.company.ecommerce.customer.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@Component
+@ConditionalOnWebApplication(type = SERVLET)
+@RequiredArgsConstructor
+public class CustomerOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final CustomerOutboxProperties outboxProperties;
+
+    public void record(CustomerChangeType type, String customerId, Integer customerVersion, CustomerResponse customer) {
+        if (outboxProperties.enabled()) {
+            outboxEventRepository.insert(new OutboxEvent(null, type, customerId, customerVersion, customer, Instant.now(),
+                    null, null));
+        }
+    }
+
+    public void recordAll(CustomerChangeType type, List<CustomerResponse> customers) {
+        if (outboxProperties.enabled() && !customers.isEmpty()) {
+            var occurredAt = Instant.now();
+            outboxEventRepository.insert(customers.stream()
+                    .map(customer -> new OutboxEvent(null, type, customer.id(), customer.version(), customer, occurredAt,
+                            null, null))
+                    .toList());
+        }
+    }
+
+}
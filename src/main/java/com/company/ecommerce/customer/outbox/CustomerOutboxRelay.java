@@ -0,0 +1,133 @@
+package com.company.ecommerce.customer.outbox;
+
+import com.company.ecommerce.customer.dto.CustomerEvent;
+import com.company.ecommerce.customer.entity.OutboxEvent;
+import com.company.ecommerce.customer.properties.CustomerOutboxProperties;
+import com.company.ecommerce.customer.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+/**
+ * Relays outbox events to the {@link CustomerEventPublisher}. Every replica runs a relay; each batch is
+ * claimed with a lease ({@code claimedBy}/{@code leaseUntil}) so replicas do not publish the same events
+ * concurrently. Delivery is at-least-once: events are deleted only after publishing, so a relay that
+ * crashes or outlives its lease leaves them to be published again, and consumers must deduplicate by
+ * event id.
+ * <p>
+ * Ordering is only guaranteed within a batch. Replicas publish their batches concurrently and a redelivered
+ * batch can arrive after newer ones, so two changes to the same customer may be seen out of order. Every
+ * event carries the {@code customerVersion} its change wrote (a deletion carries the version after the last
+ * update), so consumers should keep the highest version seen per customer and drop events with a lower one.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(prefix = "customer.outbox", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CustomerOutboxRelay implements SmartLifecycle, MeterBinder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final CustomerEventPublisher customerEventPublisher;
+    private final CustomerOutboxProperties outboxProperties;
+    private final String relayId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private Thread worker;
+    private Counter publishedEvents;
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("customer-outbox-relay").start(this::relay);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(outboxProperties.retryBackoff());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        publishedEvents = Counter.builder("customer.outbox.published")
+                .description("Customer events relayed from the outbox to the publisher")
+                .register(registry);
+    }
+
+    int relayBatch() {
+        var now = Instant.now();
+        var outboxEvents = outboxEventRepository.claimBatch(relayId, now, now.plus(outboxProperties.leaseDuration()),
+                outboxProperties.batchSize());
+        if (outboxEvents.isEmpty()) {
+            return 0;
+        }
+
+        customerEventPublisher.publish(outboxEvents.stream()
+                .map(CustomerOutboxRelay::toCustomerEvent)
+                .toList());
+        outboxEventRepository.deleteAllById(outboxEvents.stream()
+                .map(OutboxEvent::getId)
+                .toList());
+        if (Objects.nonNull(publishedEvents)) {
+            publishedEvents.increment(outboxEvents.size());
+        }
+        return outboxEvents.size();
+    }
+
+    private void relay() {
+        while (running) {
+            try {
+                if (relayBatch() < outboxProperties.batchSize()) {
+                    Thread.sleep(outboxProperties.pollInterval());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Customer outbox relay failed, retrying in {}", outboxProperties.retryBackoff(), ex);
+                if (!backOff()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean backOff() {
+        try {
+            Thread.sleep(outboxProperties.retryBackoff());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static CustomerEvent toCustomerEvent(OutboxEvent outboxEvent) {
+        return new CustomerEvent(outboxEvent.getId(), outboxEvent.getType(), outboxEvent.getCustomerId(),
+                outboxEvent.getCustomerVersion(), outboxEvent.getCustomer(), outboxEvent.getOccurredAt());
+    }
+
+}
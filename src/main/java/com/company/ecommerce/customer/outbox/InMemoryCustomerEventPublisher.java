@@ -0,0 +1,44 @@
+package com.company.ecommerce.customer.outbox;
+
+import com.company.ecommerce.customer.dto.CustomerEvent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class InMemoryCustomerEventPublisher implements CustomerEventPublisher {
+
+    private final int capacity;
+    private final Deque<CustomerEvent> events = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public InMemoryCustomerEventPublisher(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void publish(List<CustomerEvent> publishedEvents) {
+        lock.lock();
+        try {
+            for (var event : publishedEvents) {
+                if (events.size() >= capacity) {
+                    events.removeFirst();
+                }
+                events.addLast(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<CustomerEvent> events() {
+        lock.lock();
+        try {
+            return List.copyOf(events);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
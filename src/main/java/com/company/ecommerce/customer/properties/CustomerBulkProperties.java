@@ -0,0 +1,22 @@
+package com.company.ecommerce.customer.properties;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "customer.bulk")
+public record CustomerBulkProperties(
+
+        @Positive
+        @DefaultValue("500")
+        int chunkSize,
+
+        @Positive
+        @DefaultValue("10000")
+        int maxItems
+
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.company.ecommerce.customer.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.cache")
+public record CustomerCacheProperties(
+
+        @DefaultValue("10000")
+        long maximumSize,
+
+        @DefaultValue("10m")
+        Duration expireAfterWrite
+
+) {
+
+}
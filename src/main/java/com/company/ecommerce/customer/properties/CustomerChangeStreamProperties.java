@@ -0,0 +1,40 @@
+package com.company.ecommerce.customer.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.change-stream")
+public record CustomerChangeStreamProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        @DefaultValue("1000")
+        int replaySize,
+
+        @DefaultValue("256")
+        int subscriberBufferSize,
+
+        @DefaultValue("1s")
+        Duration checkpointInterval,
+
+        @DefaultValue("1s")
+        Duration maxAwaitTime,
+
+        @DefaultValue("5s")
+        Duration retryBackoff,
+
+        @DefaultValue("30m")
+        Duration subscriptionTimeout,
+
+        @DefaultValue("32")
+        int maxCatchUps,
+
+        @DefaultValue("5s")
+        Duration catchUpRetryAfter
+
+) {
+
+}
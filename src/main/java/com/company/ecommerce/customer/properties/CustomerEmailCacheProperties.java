@@ -0,0 +1,19 @@
+package com.company.ecommerce.customer.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.email-cache")
+public record CustomerEmailCacheProperties(
+
+        @DefaultValue("5000")
+        long maximumSize,
+
+        @DefaultValue("5m")
+        Duration expireAfterWrite
+
+) {
+
+}
@@ -0,0 +1,31 @@
+package com.company.ecommerce.customer.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.outbox")
+public record CustomerOutboxProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        @DefaultValue("100")
+        int batchSize,
+
+        @DefaultValue("1s")
+        Duration pollInterval,
+
+        @DefaultValue("5s")
+        Duration retryBackoff,
+
+        @DefaultValue("30s")
+        Duration leaseDuration,
+
+        @DefaultValue("10000")
+        int inMemoryCapacity
+
+) {
+
+}
@@ -0,0 +1,16 @@
+package com.company.ecommerce.customer.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "customer.validation")
+public record CustomerValidationProperties(
+
+        @DefaultValue
+        Set<String> failFastOperations
+
+) {
+
+}
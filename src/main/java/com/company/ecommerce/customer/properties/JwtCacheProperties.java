@@ -0,0 +1,22 @@
+package com.company.ecommerce.customer.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.security.jwt-cache")
+public record JwtCacheProperties(
+
+        @DefaultValue("10000")
+        long maximumSize,
+
+        @DefaultValue("5m")
+        Duration maximumTimeToLive,
+
+        @DefaultValue("5m")
+        Duration jwkSetTimeToLive
+
+) {
+
+}
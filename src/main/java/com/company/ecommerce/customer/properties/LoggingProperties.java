@@ -0,0 +1,19 @@
+package com.company.ecommerce.customer.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.logging")
+public record LoggingProperties(
+
+        @DefaultValue("100")
+        int sampleRate,
+
+        @DefaultValue("500ms")
+        Duration slowThreshold
+
+) {
+
+}
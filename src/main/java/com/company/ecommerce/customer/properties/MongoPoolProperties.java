@@ -0,0 +1,19 @@
+package com.company.ecommerce.customer.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.mongo.pool")
+public record MongoPoolProperties(
+
+        @DefaultValue("100")
+        int maxSize,
+
+        @DefaultValue("2m")
+        Duration maxWaitTime
+
+) {
+
+}
@@ -0,0 +1,8 @@
+package com.company.ecommerce.customer.repository;
+
+import com.company.ecommerce.customer.entity.ChangeStreamCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ChangeStreamCheckpointRepository extends MongoRepository<ChangeStreamCheckpoint, String> {
+
+}
@@ -1,7 +1,25 @@
 package com.company.ecommerce.customer.repository;
 
 import com.company.ecommerce.customer.entity.Customer;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface CustomerRepository extends MongoRepository<Customer, String> {
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.EXPORT_BATCH_SIZE;
+
+public interface CustomerRepository extends MongoRepository<Customer, String>, CustomerRepositoryCustom {
+
+    List<Customer> findAllByOrderByIdAsc(Limit limit);
+
+    List<Customer> findByIdGreaterThanOrderByIdAsc(String id, Limit limit);
+
+    @Meta(cursorBatchSize = EXPORT_BATCH_SIZE)
+    Stream<Customer> streamAllByOrderByIdAsc();
+
+    Optional<CustomerVersion> findVersionById(String id);
+
 }
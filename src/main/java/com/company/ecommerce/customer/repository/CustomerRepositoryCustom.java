@@ -0,0 +1,36 @@
+package com.company.ecommerce.customer.repository;
+
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
+import com.company.ecommerce.customer.entity.Customer;
+import com.mongodb.bulk.BulkWriteError;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface CustomerRepositoryCustom {
+
+    List<BulkWriteError> insertUnordered(List<Customer> customers);
+
+    Optional<Customer> findAndUpdateById(String id, Integer expectedVersion, UpdateDefinition update);
+
+    Optional<Customer> findAndDeleteById(String id, Integer expectedVersion);
+
+    Optional<Customer> findProjectedById(String id, Set<String> fields);
+
+    List<Customer> findProjectedPage(String cursor, Set<String> fields, Limit limit);
+
+    Optional<String> findIdByEmail(String email);
+
+    Map<String, String> findIdsByEmails(Collection<String> emails);
+
+    List<Customer> search(CustomerSearchCriteria criteria, List<String> after, Limit limit);
+
+    Stream<Customer> streamWithDenormalizedEmail();
+
+}
@@ -0,0 +1,178 @@
+package com.company.ecommerce.customer.repository;
+
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.mapper.CustomerSearchOrder;
+import com.company.ecommerce.customer.mapper.EmailNormalizer;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.BulkOperations.BulkMode.UNORDERED;
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@RequiredArgsConstructor
+public class CustomerRepositoryCustomImpl implements CustomerRepositoryCustom {
+
+    private static final Pattern DENORMALIZED_EMAIL_PATTERN = Pattern.compile("\\p{Lu}|^\\s|\\s$");
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    @Override
+    public List<BulkWriteError> insertUnordered(List<Customer> customers) {
+        var auditor = auditorAware.getCurrentAuditor().orElse(null);
+        var now = LocalDateTime.now();
+        customers.forEach(customer -> {
+            customer.setId(new ObjectId().toHexString());
+            customer.setVersion(0);
+            customer.setCreatedBy(auditor);
+            customer.setCreatedAt(now);
+        });
+
+        try {
+            mongoTemplate.bulkOps(UNORDERED, Customer.class)
+                    .insert(customers)
+                    .execute();
+            return List.of();
+        } catch (BulkOperationException ex) {
+            return ex.getErrors();
+        }
+    }
+
+    @Override
+    public Optional<Customer> findAndUpdateById(String id, Integer expectedVersion, UpdateDefinition update) {
+        var auditedUpdate = CustomerUpdates.audited(update, auditorAware.getCurrentAuditor().orElse(null));
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                versionedQuery(id, expectedVersion), auditedUpdate, options().returnNew(false), Customer.class));
+    }
+
+    @Override
+    public Optional<Customer> findAndDeleteById(String id, Integer expectedVersion) {
+        var query = versionedQuery(id, expectedVersion);
+        query.fields().include("email", "version");
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query, Customer.class));
+    }
+
+    @Override
+    public Optional<Customer> findProjectedById(String id, Set<String> fields) {
+        var query = query(where("id").is(id));
+        query.fields().include(fields.toArray(String[]::new)).include("version");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Customer.class));
+    }
+
+    @Override
+    public List<Customer> findProjectedPage(String cursor, Set<String> fields, Limit limit) {
+        var query = StringUtils.hasText(cursor) ? query(where("id").gt(cursor)) : new Query();
+        query.fields().include(fields.toArray(String[]::new));
+        return mongoTemplate.find(query
+                .with(Sort.by("id"))
+                .limit(limit), Customer.class);
+    }
+
+    @Override
+    public Optional<String> findIdByEmail(String email) {
+        return Optional.ofNullable(mongoTemplate.findOne(emailIdQuery(where("email").is(email)), Customer.class))
+                .map(Customer::getId);
+    }
+
+    @Override
+    public Map<String, String> findIdsByEmails(Collection<String> emails) {
+        return mongoTemplate.find(emailIdQuery(where("email").in(emails)), Customer.class).stream()
+                .collect(Collectors.toMap(Customer::getEmail, Customer::getId));
+    }
+
+    @Override
+    public List<Customer> search(CustomerSearchCriteria criteria, List<String> after, Limit limit) {
+        var query = new Query();
+        addStartsWith(query, "lastName", criteria.lastName());
+        addStartsWith(query, "firstName", criteria.firstName());
+        addIs(query, "email", EmailNormalizer.normalize(criteria.email()));
+        addIs(query, "address.country", criteria.country());
+        addIs(query, "address.state", criteria.state());
+        addIs(query, "address.city", criteria.city());
+        var sortFields = CustomerSearchOrder.sortFields(criteria);
+        if (!after.isEmpty()) {
+            query.addCriteria(keysetAfter(sortFields, after));
+        }
+
+        return mongoTemplate.find(query
+                .with(Sort.by(sortFields.toArray(String[]::new)))
+                .limit(limit), Customer.class);
+    }
+
+    @Override
+    public Stream<Customer> streamWithDenormalizedEmail() {
+        var query = query(where("email").regex(DENORMALIZED_EMAIL_PATTERN));
+        query.fields().include("email", "version");
+        return mongoTemplate.stream(query, Customer.class);
+    }
+
+    private static Query versionedQuery(String id, Integer expectedVersion) {
+        var criteria = where("id").is(id);
+        if (Objects.nonNull(expectedVersion)) {
+            criteria.and("version").is(expectedVersion);
+        }
+        return query(criteria);
+    }
+
+    private static Query emailIdQuery(Criteria criteria) {
+        var query = query(criteria);
+        query.fields().include("email");
+        return query;
+    }
+
+    private static Criteria keysetAfter(List<String> fields, List<String> values) {
+        if (fields.size() == 1) {
+            return where(fields.getFirst()).gt(values.getFirst());
+        }
+
+        var alternatives = new ArrayList<Criteria>(fields.size());
+        for (int position = 0; position < fields.size(); position++) {
+            var alternative = where(fields.get(position)).gt(values.get(position));
+            for (int previous = 0; previous < position; previous++) {
+                alternative.and(fields.get(previous)).is(values.get(previous));
+            }
+            alternatives.add(alternative);
+        }
+        return new Criteria().andOperator(
+                where(fields.getFirst()).gte(values.getFirst()),
+                new Criteria().orOperator(alternatives));
+    }
+
+    private static void addStartsWith(Query query, String field, String prefix) {
+        if (StringUtils.hasText(prefix)) {
+            query.addCriteria(where(field).regex("^" + Pattern.quote(prefix)));
+        }
+    }
+
+    private static void addIs(Query query, String field, String value) {
+        if (StringUtils.hasText(value)) {
+            query.addCriteria(where(field).is(value));
+        }
+    }
+
+}
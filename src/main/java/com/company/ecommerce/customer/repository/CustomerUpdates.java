@@ -0,0 +1,44 @@
+package com.company.ecommerce.customer.repository;
+
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.LiteralOperators.Literal;
+import org.springframework.data.mongodb.core.aggregation.SystemVariable;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+final class CustomerUpdates {
+
+    private static final String VERSION_FIELD = "version";
+    private static final String MODIFIED_AT_FIELD = "modifiedAt";
+    private static final String MODIFIED_BY_FIELD = "modifiedBy";
+
+    private CustomerUpdates() {
+    }
+
+    static UpdateDefinition audited(UpdateDefinition update, String auditor) {
+        return switch (update) {
+            case Update fieldUpdate -> {
+                fieldUpdate.inc(VERSION_FIELD, 1)
+                        .set(MODIFIED_AT_FIELD, LocalDateTime.now());
+                if (Objects.nonNull(auditor)) {
+                    fieldUpdate.set(MODIFIED_BY_FIELD, auditor);
+                }
+                yield fieldUpdate;
+            }
+            case AggregationUpdate pipelineUpdate -> {
+                pipelineUpdate.set(VERSION_FIELD).toValue(ArithmeticOperators.valueOf(VERSION_FIELD).add(1))
+                        .set(MODIFIED_AT_FIELD).toValue(SystemVariable.NOW);
+                if (Objects.nonNull(auditor)) {
+                    pipelineUpdate.set(MODIFIED_BY_FIELD).toValue(Literal.asLiteral(auditor));
+                }
+                yield pipelineUpdate;
+            }
+            default -> throw new IllegalArgumentException("Unsupported customer update " + update.getClass().getName());
+        };
+    }
+
+}
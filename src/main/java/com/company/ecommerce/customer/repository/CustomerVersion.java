@@ -0,0 +1,7 @@
+package com.company.ecommerce.customer.repository;
+
+public interface CustomerVersion {
+
+    Integer getVersion();
+
+}
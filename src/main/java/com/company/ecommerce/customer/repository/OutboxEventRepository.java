@@ -0,0 +1,8 @@
+package com.company.ecommerce.customer.repository;
+
+import com.company.ecommerce.customer.entity.OutboxEvent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String>, OutboxEventRepositoryCustom {
+
+}
@@ -0,0 +1,12 @@
+package com.company.ecommerce.customer.repository;
+
+import com.company.ecommerce.customer.entity.OutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepositoryCustom {
+
+    List<OutboxEvent> claimBatch(String claimedBy, Instant now, Instant leaseUntil, int size);
+
+}
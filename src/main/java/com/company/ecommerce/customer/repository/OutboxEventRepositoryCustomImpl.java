@@ -0,0 +1,46 @@
+package com.company.ecommerce.customer.repository;
+
+import com.company.ecommerce.customer.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@RequiredArgsConstructor
+public class OutboxEventRepositoryCustomImpl implements OutboxEventRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<OutboxEvent> claimBatch(String claimedBy, Instant now, Instant leaseUntil, int size) {
+        var candidates = query(claimable(now))
+                .with(Sort.by("id"))
+                .limit(size);
+        candidates.fields().include("id");
+        var ids = mongoTemplate.find(candidates, OutboxEvent.class).stream()
+                .map(OutboxEvent::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        var lease = leaseUntil.truncatedTo(ChronoUnit.MILLIS);
+        mongoTemplate.updateMulti(query(where("id").in(ids).andOperator(claimable(now))),
+                new Update().set("claimedBy", claimedBy).set("leaseUntil", lease), OutboxEvent.class);
+        return mongoTemplate.find(query(where("id").in(ids).and("claimedBy").is(claimedBy).and("leaseUntil").is(lease))
+                .with(Sort.by("id")), OutboxEvent.class);
+    }
+
+    private static Criteria claimable(Instant now) {
+        return new Criteria().orOperator(where("leaseUntil").is(null), where("leaseUntil").lt(now));
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.company.ecommerce.customer.repository;
+
+import com.company.ecommerce.customer.entity.Customer;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.EXPORT_BATCH_SIZE;
+
+public interface ReactiveCustomerRepository
+        extends ReactiveMongoRepository<Customer, String>, ReactiveCustomerRepositoryCustom {
+
+    @Meta(cursorBatchSize = EXPORT_BATCH_SIZE)
+    Flux<Customer> findAllByOrderByIdAsc();
+
+    Mono<Long> deleteCustomerById(String id);
+
+}
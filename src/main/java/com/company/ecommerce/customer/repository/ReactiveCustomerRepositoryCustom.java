@@ -0,0 +1,11 @@
+package com.company.ecommerce.customer.repository;
+
+import com.company.ecommerce.customer.entity.Customer;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCustomerRepositoryCustom {
+
+    Mono<Customer> updateById(String id, UpdateDefinition update);
+
+}
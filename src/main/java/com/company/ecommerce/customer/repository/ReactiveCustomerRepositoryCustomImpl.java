@@ -0,0 +1,29 @@
+package com.company.ecommerce.customer.repository;
+
+import com.company.ecommerce.customer.entity.Customer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@RequiredArgsConstructor
+public class ReactiveCustomerRepositoryCustomImpl implements ReactiveCustomerRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final ReactiveAuditorAware<String> reactiveAuditorAware;
+
+    @Override
+    public Mono<Customer> updateById(String id, UpdateDefinition update) {
+        return reactiveAuditorAware.getCurrentAuditor()
+                .map(auditor -> CustomerUpdates.audited(update, auditor))
+                .switchIfEmpty(Mono.fromSupplier(() -> CustomerUpdates.audited(update, null)))
+                .flatMap(auditedUpdate -> reactiveMongoTemplate.findAndModify(
+                        query(where("id").is(id)), auditedUpdate, options().returnNew(true), Customer.class));
+    }
+
+}
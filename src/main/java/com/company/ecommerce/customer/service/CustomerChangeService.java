@@ -0,0 +1,9 @@
+package com.company.ecommerce.customer.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface CustomerChangeService {
+
+    SseEmitter subscribeToChanges(String resumeToken);
+
+}
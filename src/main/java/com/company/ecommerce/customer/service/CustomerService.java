@@ -1,16 +1,35 @@
 package com.company.ecommerce.customer.service;
 
+import com.company.ecommerce.customer.dto.BulkCustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerBatchResponse;
+import com.company.ecommerce.customer.dto.CustomerEmailLookupResponse;
+import com.company.ecommerce.customer.dto.CustomerPageResponse;
 import com.company.ecommerce.customer.dto.CustomerRequest;
 import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface CustomerService {
 
-    List<CustomerResponse> findAllCustomers();
+    CustomerPageResponse findAllCustomers(String cursor, int size);
+    CustomerPageResponse findAllCustomers(String cursor, int size, String fields);
+    CustomerPageResponse searchCustomers(CustomerSearchCriteria criteria, String cursor, int size);
+    Stream<CustomerResponse> exportCustomers();
     CustomerResponse findCustomerById(String id);
+    CustomerResponse findCustomerById(String id, String fields);
+    Integer findCustomerVersionById(String id);
+    CustomerBatchResponse findCustomersByIds(List<String> ids);
+    CustomerResponse findCustomerByEmail(String email);
+    CustomerEmailLookupResponse findCustomerIdsByEmails(List<String> emails);
     CustomerResponse createCustomer(CustomerRequest customerRequest);
+    BulkCustomerResponse createCustomers(List<CustomerRequest> customerRequests);
     CustomerResponse updateCustomerById(String id, CustomerRequest customerRequest);
+    CustomerResponse updateCustomerById(String id, CustomerRequest customerRequest, Integer expectedVersion);
+    CustomerResponse patchCustomerById(String id, Map<String, Object> customerPatch);
     void deleteCustomerById(String id);
+    void deleteCustomerById(String id, Integer expectedVersion);
 
 }
@@ -0,0 +1,20 @@
+package com.company.ecommerce.customer.service;
+
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+
+public interface ReactiveCustomerService {
+
+    Flux<CustomerResponse> findAllCustomers();
+    Mono<CustomerResponse> findCustomerById(String id, Locale locale);
+    Mono<CustomerResponse> createCustomer(CustomerRequest customerRequest);
+    Mono<CustomerResponse> updateCustomerById(String id, CustomerRequest customerRequest, Locale locale);
+    Mono<CustomerResponse> patchCustomerById(String id, Map<String, Object> customerPatch, Locale locale);
+    Mono<Void> deleteCustomerById(String id, Locale locale);
+
+}
@@ -0,0 +1,98 @@
+package com.company.ecommerce.customer.service.impl;
+
+import com.company.ecommerce.customer.changestream.CustomerChangeBroadcaster;
+import com.company.ecommerce.customer.changestream.CustomerChangeStreams;
+import com.company.ecommerce.customer.exception.BusinessException;
+import com.company.ecommerce.customer.exception.ServiceUnavailableException;
+import com.company.ecommerce.customer.properties.CustomerChangeStreamProperties;
+import com.company.ecommerce.customer.service.CustomerChangeService;
+import com.mongodb.MongoException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_CHANGES_CATCH_UP_LIMIT_REACHED_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_CHANGES_INVALID_RESUME_TOKEN_KEY;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@Service
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(prefix = "customer.change-stream", name = "enabled", havingValue = "true")
+public class CustomerChangeServiceImpl implements CustomerChangeService {
+
+    private final MessageSource messageSource;
+    private final CustomerChangeStreams changeStreams;
+    private final CustomerChangeBroadcaster changeBroadcaster;
+    private final CustomerChangeStreamProperties changeStreamProperties;
+    private final Semaphore catchUps;
+
+    public CustomerChangeServiceImpl(MessageSource messageSource, CustomerChangeStreams changeStreams,
+                                     CustomerChangeBroadcaster changeBroadcaster,
+                                     CustomerChangeStreamProperties changeStreamProperties) {
+        this.messageSource = messageSource;
+        this.changeStreams = changeStreams;
+        this.changeBroadcaster = changeBroadcaster;
+        this.changeStreamProperties = changeStreamProperties;
+        this.catchUps = new Semaphore(changeStreamProperties.maxCatchUps());
+    }
+
+    @Override
+    public SseEmitter subscribeToChanges(String resumeToken) {
+        var locale = LocaleContextHolder.getLocale();
+        var token = StringUtils.hasText(resumeToken) ? resumeToken.trim() : null;
+        if (Objects.nonNull(token) && !CustomerChangeStreams.isResumeToken(token)) {
+            throw new BusinessException(messageSource, CUSTOMER_CHANGES_INVALID_RESUME_TOKEN_KEY, token, locale);
+        }
+
+        var emitter = new SseEmitter(changeStreamProperties.subscriptionTimeout().toMillis());
+        if (!changeBroadcaster.subscribe(emitter, token)) {
+            if (!catchUps.tryAcquire()) {
+                throw new ServiceUnavailableException(messageSource, CUSTOMER_CHANGES_CATCH_UP_LIMIT_REACHED_KEY,
+                        changeStreamProperties.catchUpRetryAfter(), locale);
+            }
+            Thread.ofVirtual().name("customer-change-catch-up").start(() -> {
+                try {
+                    catchUp(emitter, token);
+                } finally {
+                    catchUps.release();
+                }
+            });
+        }
+        return emitter;
+    }
+
+    private void catchUp(SseEmitter emitter, String resumeToken) {
+        var closed = new AtomicBoolean();
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(ex -> closed.set(true));
+
+        var lastResumeToken = resumeToken;
+        try (var cursor = changeStreams.open(resumeToken)) {
+            while (!closed.get()) {
+                var change = cursor.tryNext();
+                if (Objects.nonNull(change)) {
+                    var event = changeStreams.toEvent(change);
+                    emitter.send(CustomerChangeStreams.toSseEvent(event));
+                    lastResumeToken = event.resumeToken();
+                } else if (changeBroadcaster.subscribe(emitter, lastResumeToken)) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            closed.set(true);
+        } catch (MongoException ex) {
+            emitter.completeWithError(ex);
+        }
+    }
+
+}
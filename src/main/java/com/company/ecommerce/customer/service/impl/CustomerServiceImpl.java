@@ -1,74 +1,494 @@
 package com.company.ecommerce.customer.service.impl;
 
+import com.company.ecommerce.customer.cache.CustomerCache;
+import com.company.ecommerce.customer.cache.CustomerEmailCache;
+import com.company.ecommerce.customer.dto.BulkCustomerItemResponse;
+import com.company.ecommerce.customer.dto.BulkCustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerBatchResponse;
+import com.company.ecommerce.customer.dto.CustomerChangeType;
+import com.company.ecommerce.customer.dto.CustomerEmailLookupResponse;
+import com.company.ecommerce.customer.dto.CustomerEmailResponse;
+import com.company.ecommerce.customer.dto.CustomerPageResponse;
 import com.company.ecommerce.customer.dto.CustomerRequest;
 import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.exception.BusinessException;
+import com.company.ecommerce.customer.exception.PreconditionFailedException;
 import com.company.ecommerce.customer.exception.ResourceNotFoundException;
 import com.company.ecommerce.customer.mapper.CustomerMapper;
+import com.company.ecommerce.customer.mapper.CustomerFields;
+import com.company.ecommerce.customer.mapper.CustomerPatchMapper;
+import com.company.ecommerce.customer.mapper.CustomerSearchOrder;
+import com.company.ecommerce.customer.mapper.EmailNormalizer;
+import com.company.ecommerce.customer.outbox.CustomerOutbox;
+import com.company.ecommerce.customer.properties.CustomerBulkProperties;
 import com.company.ecommerce.customer.repository.CustomerRepository;
 import com.company.ecommerce.customer.service.CustomerService;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_BULK_MAX_ITEMS_EXCEEDED_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_EMAIL_DUPLICATED_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_EMAIL_NOT_FOUND_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_FIELDS_UNKNOWN_FIELD_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_LOOKUP_MAX_ITEMS_EXCEEDED_KEY;
 import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_NOT_FOUND_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_REQUIRED_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_SEARCH_CRITERIA_REQUIRED_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_SEARCH_INVALID_CURSOR_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_SEARCH_STATE_WITHOUT_COUNTRY_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_VERSION_MISMATCH_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.DUPLICATE_KEY_ERROR_CODE;
+import static com.company.ecommerce.customer.constant.CommonConstant.MAX_LOOKUP_ITEMS;
+import static com.company.ecommerce.customer.constant.CommonConstant.MAX_PAGE_SIZE;
+import static com.company.ecommerce.customer.dto.BulkItemStatus.CONFLICT;
+import static com.company.ecommerce.customer.dto.BulkItemStatus.CREATED;
+import static com.company.ecommerce.customer.dto.BulkItemStatus.FAILED;
+import static com.company.ecommerce.customer.dto.BulkItemStatus.INVALID;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
 
 @Service
+@ConditionalOnWebApplication(type = SERVLET)
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
 
     private final MessageSource messageSource;
     private final CustomerMapper customerMapper;
+    private final CustomerPatchMapper customerPatchMapper;
     private final CustomerRepository customerRepository;
+    private final CustomerCache customerCache;
+    private final CustomerEmailCache customerEmailCache;
+    private final Validator validator;
+    private final CustomerBulkProperties bulkProperties;
+    private final CustomerOutbox customerOutbox;
+    private final ObjectProvider<TransactionOperations> transactionOperations;
 
     @Override
-    @Transactional(readOnly = true)
-    public List<CustomerResponse> findAllCustomers() {
-        var customers = customerRepository.findAll();
-        return customers.stream()
-                .map(customerMapper::mapToCustomerResponse)
-                .toList();
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CustomerPageResponse findAllCustomers(String cursor, int size) {
+        var pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        var limit = Limit.of(pageSize + 1);
+        var customers = StringUtils.hasText(cursor)
+                ? customerRepository.findByIdGreaterThanOrderByIdAsc(cursor, limit)
+                : customerRepository.findAllByOrderByIdAsc(limit);
+        return toCustomerPageResponse(customers, pageSize);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CustomerPageResponse findAllCustomers(String cursor, int size, String fields) {
+        var selectedFields = parseFields(fields);
+        if (selectedFields.isEmpty()) {
+            return findAllCustomers(cursor, size);
+        }
+
+        var pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        var customers = customerRepository.findProjectedPage(cursor, selectedFields, Limit.of(pageSize + 1));
+        return toCustomerPageResponse(customers, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CustomerPageResponse searchCustomers(CustomerSearchCriteria criteria, String cursor, int size) {
+        var locale = LocaleContextHolder.getLocale();
+        if (criteria.isEmpty()) {
+            throw new BusinessException(messageSource, CUSTOMER_SEARCH_CRITERIA_REQUIRED_KEY, null, locale);
+        }
+        if (StringUtils.hasText(criteria.state()) && !StringUtils.hasText(criteria.country())) {
+            throw new BusinessException(messageSource, CUSTOMER_SEARCH_STATE_WITHOUT_COUNTRY_KEY, criteria.state(), locale);
+        }
+        var after = StringUtils.hasText(cursor)
+                ? CustomerSearchOrder.parseCursor(criteria, cursor).orElseThrow(() ->
+                        new BusinessException(messageSource, CUSTOMER_SEARCH_INVALID_CURSOR_KEY, cursor, locale))
+                : List.<String>of();
+
+        var pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        var customers = customerRepository.search(criteria, after, Limit.of(pageSize + 1));
+        return toCustomerPageResponse(customers, pageSize, customer -> CustomerSearchOrder.toCursor(criteria, customer));
+    }
+
+    @Override
+    public Stream<CustomerResponse> exportCustomers() {
+        return customerRepository.streamAllByOrderByIdAsc()
+                .map(customerMapper::mapToCustomerResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public CustomerResponse findCustomerById(String id) {
         var locale = LocaleContextHolder.getLocale();
-        return customerRepository.findById(id)
+        return customerCache.get(id, customerRepository::findById)
+                .map(customerMapper::mapToCustomerResponse)
+                .orElseThrow(() -> new ResourceNotFoundException(messageSource, CUSTOMER_NOT_FOUND_KEY, id, locale));
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CustomerResponse findCustomerById(String id, String fields) {
+        var locale = LocaleContextHolder.getLocale();
+        var selectedFields = parseFields(fields);
+        if (selectedFields.isEmpty()) {
+            return findCustomerById(id);
+        }
+
+        return customerCache.getIfPresent(id)
+                .or(() -> customerRepository.findProjectedById(id, selectedFields))
                 .map(customerMapper::mapToCustomerResponse)
+                .map(customerResponse -> CustomerFields.select(customerResponse, selectedFields))
                 .orElseThrow(() -> new ResourceNotFoundException(messageSource, CUSTOMER_NOT_FOUND_KEY, id, locale));
     }
 
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Integer findCustomerVersionById(String id) {
+        var locale = LocaleContextHolder.getLocale();
+        return customerCache.getIfPresent(id)
+                .map(customer -> Objects.requireNonNullElse(customer.getVersion(), 0))
+                .or(() -> customerRepository.findVersionById(id)
+                        .map(customerVersion -> Objects.requireNonNullElse(customerVersion.getVersion(), 0)))
+                .orElseThrow(() -> new ResourceNotFoundException(messageSource, CUSTOMER_NOT_FOUND_KEY, id, locale));
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CustomerBatchResponse findCustomersByIds(List<String> ids) {
+        var locale = LocaleContextHolder.getLocale();
+        if (ids.size() > MAX_LOOKUP_ITEMS) {
+            throw new BusinessException(messageSource, CUSTOMER_LOOKUP_MAX_ITEMS_EXCEEDED_KEY,
+                    String.valueOf(MAX_LOOKUP_ITEMS), locale);
+        }
+
+        var distinctIds = ids.stream()
+                .filter(StringUtils::hasText)
+                .distinct()
+                .toList();
+        var foundCustomers = customerCache.getAll(distinctIds, missingIds ->
+                customerRepository.findAllById(missingIds).stream()
+                        .collect(Collectors.toMap(Customer::getId, Function.identity())));
+
+        var customers = new ArrayList<CustomerResponse>(foundCustomers.size());
+        var missingIds = new ArrayList<String>();
+        distinctIds.forEach(id -> {
+            var customer = foundCustomers.get(id);
+            if (Objects.nonNull(customer)) {
+                customers.add(customerMapper.mapToCustomerResponse(customer));
+            } else {
+                missingIds.add(id);
+            }
+        });
+        return new CustomerBatchResponse(customers, missingIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CustomerResponse findCustomerByEmail(String email) {
+        var locale = LocaleContextHolder.getLocale();
+        var normalizedEmail = EmailNormalizer.normalize(email);
+        return findByEmail(normalizedEmail)
+                .map(customerMapper::mapToCustomerResponse)
+                .orElseThrow(() -> new ResourceNotFoundException(messageSource, CUSTOMER_EMAIL_NOT_FOUND_KEY, email, locale));
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CustomerEmailLookupResponse findCustomerIdsByEmails(List<String> emails) {
+        var locale = LocaleContextHolder.getLocale();
+        if (emails.size() > MAX_LOOKUP_ITEMS) {
+            throw new BusinessException(messageSource, CUSTOMER_LOOKUP_MAX_ITEMS_EXCEEDED_KEY,
+                    String.valueOf(MAX_LOOKUP_ITEMS), locale);
+        }
+
+        var normalizedEmails = emails.stream()
+                .filter(StringUtils::hasText)
+                .map(EmailNormalizer::normalize)
+                .distinct()
+                .toList();
+        var customerIds = customerEmailCache.getAll(normalizedEmails, customerRepository::findIdsByEmails);
+
+        var customers = new ArrayList<CustomerEmailResponse>(customerIds.size());
+        var missingEmails = new ArrayList<String>();
+        normalizedEmails.forEach(email -> {
+            var id = customerIds.get(email);
+            if (Objects.nonNull(id)) {
+                customers.add(new CustomerEmailResponse(email, id));
+            } else {
+                missingEmails.add(email);
+            }
+        });
+        return new CustomerEmailLookupResponse(customers, missingEmails);
+    }
+
     @Override
     @Transactional
     public CustomerResponse createCustomer(CustomerRequest customerRequest) {
         var customer = customerMapper.mapToCustomer(customerRequest);
-        return customerMapper.mapToCustomerResponse(customerRepository.save(customer));
+        var savedCustomer = customerRepository.save(customer);
+        var customerResponse = customerMapper.mapToCustomerResponse(savedCustomer);
+        customerOutbox.record(CustomerChangeType.CREATED, savedCustomer.getId(), customerResponse.version(), customerResponse);
+        afterCommit(() -> customerCache.put(savedCustomer));
+        return customerResponse;
+    }
+
+    @Override
+    public BulkCustomerResponse createCustomers(List<CustomerRequest> customerRequests) {
+        var locale = LocaleContextHolder.getLocale();
+        if (customerRequests.size() > bulkProperties.maxItems()) {
+            throw new BusinessException(messageSource, CUSTOMER_BULK_MAX_ITEMS_EXCEEDED_KEY,
+                    String.valueOf(bulkProperties.maxItems()), locale);
+        }
+
+        var items = new BulkCustomerItemResponse[customerRequests.size()];
+        var validIndexes = new ArrayList<Integer>(customerRequests.size());
+        var validCustomers = new ArrayList<Customer>(customerRequests.size());
+        for (int index = 0; index < customerRequests.size(); index++) {
+            var customerRequest = customerRequests.get(index);
+            var violationMessage = Objects.isNull(customerRequest)
+                    ? messageSource.getMessage(CUSTOMER_REQUIRED_KEY, null, locale)
+                    : toViolationMessage(validator.validate(customerRequest));
+            if (Objects.nonNull(violationMessage)) {
+                items[index] = new BulkCustomerItemResponse(index, INVALID, null, violationMessage);
+            } else {
+                validIndexes.add(index);
+                validCustomers.add(customerMapper.mapToCustomer(customerRequest));
+            }
+        }
+
+        var transactions = transactionOperations.getIfAvailable(TransactionOperations::withoutTransaction);
+        for (int from = 0; from < validCustomers.size(); from += bulkProperties.chunkSize()) {
+            var to = Math.min(from + bulkProperties.chunkSize(), validCustomers.size());
+            var chunkCustomers = validCustomers.subList(from, to);
+            var chunkIndexes = validIndexes.subList(from, to);
+            var writeErrors = insertChunk(chunkCustomers, transactions);
+
+            for (int position = 0; position < chunkCustomers.size(); position++) {
+                var index = chunkIndexes.get(position);
+                var writeError = writeErrors.get(position);
+                if (Objects.isNull(writeError)) {
+                    items[index] = new BulkCustomerItemResponse(index, CREATED, chunkCustomers.get(position).getId(), null);
+                } else {
+                    items[index] = writeError.getCode() == DUPLICATE_KEY_ERROR_CODE
+                            ? new BulkCustomerItemResponse(index, CONFLICT, null, messageSource.getMessage(
+                                    CUSTOMER_EMAIL_DUPLICATED_KEY, new Object[] { customerRequests.get(index).email() }, locale))
+                            : new BulkCustomerItemResponse(index, FAILED, null, writeError.getMessage());
+                }
+            }
+        }
+
+        var created = (int) Arrays.stream(items)
+                .filter(item -> item.status() == CREATED)
+                .count();
+        return new BulkCustomerResponse(created, items.length - created, List.of(items));
     }
 
     @Override
     @Transactional
     public CustomerResponse updateCustomerById(String id, CustomerRequest customerRequest) {
+        return updateCustomerById(id, customerRequest, null);
+    }
+
+    @Override
+    @Transactional
+    public CustomerResponse updateCustomerById(String id, CustomerRequest customerRequest, Integer expectedVersion) {
+        var locale = LocaleContextHolder.getLocale();
+        var customer = customerMapper.mapToCustomer(customerRequest);
+        var update = new Update()
+                .set("firstName", customer.getFirstName())
+                .set("lastName", customer.getLastName())
+                .set("email", customer.getEmail())
+                .set("phoneNumber", customer.getPhoneNumber())
+                .set("address", customer.getAddress());
+
+        var storedCustomer = customerRepository.findAndUpdateById(id, expectedVersion, update)
+                .orElseThrow(() -> notFoundOrPreconditionFailed(id, expectedVersion, locale));
+        var previousEmail = storedCustomer.getEmail();
+        customerMapper.mergeCustomer(customerRequest, storedCustomer);
+        return recordUpdate(storedCustomer, previousEmail);
+    }
+
+    @Override
+    @Transactional
+    public CustomerResponse patchCustomerById(String id, Map<String, Object> customerPatch) {
         var locale = LocaleContextHolder.getLocale();
-        var customer = customerRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        messageSource, CUSTOMER_NOT_FOUND_KEY, id, locale));
+        var update = customerPatchMapper.mapToUpdate(customerPatch, locale);
 
-        customerMapper.mergeCustomer(customerRequest, customer);
-        return customerMapper.mapToCustomerResponse(customerRepository.save(customer));
+        var storedCustomer = customerRepository.findAndUpdateById(id, null, update)
+                .orElseThrow(() -> notFoundOrPreconditionFailed(id, null, locale));
+        var previousEmail = storedCustomer.getEmail();
+        customerPatchMapper.mergeCustomer(customerPatch, storedCustomer);
+        return recordUpdate(storedCustomer, previousEmail);
     }
 
     @Override
     @Transactional
     public void deleteCustomerById(String id) {
+        deleteCustomerById(id, null);
+    }
+
+    @Override
+    @Transactional
+    public void deleteCustomerById(String id, Integer expectedVersion) {
         var locale = LocaleContextHolder.getLocale();
-        var customer = customerRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(messageSource, CUSTOMER_NOT_FOUND_KEY, id, locale));
+        var deletedCustomer = customerRepository.findAndDeleteById(id, expectedVersion)
+                .orElseThrow(() -> notFoundOrPreconditionFailed(id, expectedVersion, locale));
+        customerOutbox.record(CustomerChangeType.DELETED, id,
+                Objects.requireNonNullElse(deletedCustomer.getVersion(), 0) + 1, null);
+        afterCommit(() -> {
+            customerCache.evict(id);
+            customerEmailCache.evict(deletedCustomer.getEmail());
+        });
+    }
+
+    private Map<Integer, BulkWriteError> insertChunk(List<Customer> chunkCustomers, TransactionOperations transactions) {
+        var writeErrors = new HashMap<Integer, BulkWriteError>();
+        var pendingPositions = IntStream.range(0, chunkCustomers.size()).boxed().toList();
+        while (!pendingPositions.isEmpty()) {
+            var positions = pendingPositions;
+            var attempt = Objects.requireNonNull(transactions.execute(status -> {
+                var pendingCustomers = positions.stream().map(chunkCustomers::get).toList();
+                var attemptErrors = customerRepository.insertUnordered(pendingCustomers);
+                if (!attemptErrors.isEmpty() && status.isNewTransaction()) {
+                    status.setRollbackOnly();
+                    return new ChunkAttempt(attemptErrors, true);
+                }
+                var failedPositions = attemptErrors.stream()
+                        .map(BulkWriteError::getIndex)
+                        .collect(Collectors.toSet());
+                customerOutbox.recordAll(CustomerChangeType.CREATED, IntStream.range(0, pendingCustomers.size())
+                        .filter(position -> !failedPositions.contains(position))
+                        .mapToObj(position -> customerMapper.mapToCustomerResponse(pendingCustomers.get(position)))
+                        .toList());
+                return new ChunkAttempt(attemptErrors, false);
+            }));
+
+            attempt.writeErrors().forEach(writeError -> writeErrors.put(positions.get(writeError.getIndex()), writeError));
+            pendingPositions = attempt.rolledBack()
+                    ? positions.stream().filter(position -> !writeErrors.containsKey(position)).toList()
+                    : List.of();
+        }
+        return writeErrors;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private CustomerResponse recordUpdate(Customer customer, String previousEmail) {
+        customer.setVersion(Objects.requireNonNullElse(customer.getVersion(), 0) + 1);
+        var customerResponse = customerMapper.mapToCustomerResponse(customer);
+        customerOutbox.record(CustomerChangeType.UPDATED, customer.getId(), customer.getVersion(), customerResponse);
+        afterCommit(() -> {
+            customerCache.evict(customer.getId());
+            evictChangedEmail(previousEmail, customer.getEmail());
+        });
+        return customerResponse;
+    }
+
+    private void evictChangedEmail(String previousEmail, String email) {
+        if (!Objects.equals(previousEmail, email)) {
+            customerEmailCache.evict(previousEmail);
+            customerEmailCache.evict(email);
+        }
+    }
+
+    private RuntimeException notFoundOrPreconditionFailed(String id, Integer expectedVersion, Locale locale) {
+        if (Objects.isNull(expectedVersion) || !customerRepository.existsById(id)) {
+            return new ResourceNotFoundException(messageSource, CUSTOMER_NOT_FOUND_KEY, id, locale);
+        }
+        customerCache.evict(id);
+        return new PreconditionFailedException(messageSource, CUSTOMER_VERSION_MISMATCH_KEY, id, locale);
+    }
+
+    private Set<String> parseFields(String fields) {
+        var locale = LocaleContextHolder.getLocale();
+        var selectedFields = CustomerFields.parse(fields);
+        CustomerFields.findUnknown(selectedFields).ifPresent(field -> {
+            throw new BusinessException(messageSource, CUSTOMER_FIELDS_UNKNOWN_FIELD_KEY, field, locale);
+        });
+        return selectedFields;
+    }
+
+    private Optional<Customer> findByEmail(String email) {
+        var cachedId = customerEmailCache.get(email, customerRepository::findIdByEmail);
+        var customer = cachedId.flatMap(id -> findByIdAndEmail(id, email));
+        if (cachedId.isEmpty() || customer.isPresent()) {
+            return customer;
+        }
+
+        customerEmailCache.evict(email);
+        return customerEmailCache.get(email, customerRepository::findIdByEmail)
+                .flatMap(id -> findByIdAndEmail(id, email));
+    }
+
+    private Optional<Customer> findByIdAndEmail(String id, String email) {
+        return customerCache.get(id, customerRepository::findById)
+                .filter(customer -> email.equals(customer.getEmail()));
+    }
+
+    private CustomerPageResponse toCustomerPageResponse(List<Customer> customers, int pageSize) {
+        return toCustomerPageResponse(customers, pageSize, Customer::getId);
+    }
+
+    private CustomerPageResponse toCustomerPageResponse(List<Customer> customers, int pageSize,
+                                                        Function<Customer, String> toCursor) {
+        var hasNextPage = customers.size() > pageSize;
+        var pageCustomers = hasNextPage ? customers.subList(0, pageSize) : customers;
+        var nextCursor = hasNextPage ? toCursor.apply(pageCustomers.getLast()) : null;
+        return new CustomerPageResponse(pageCustomers.stream()
+                .map(customerMapper::mapToCustomerResponse)
+                .toList(), nextCursor);
+    }
+
+    private record ChunkAttempt(List<BulkWriteError> writeErrors, boolean rolledBack) {
+
+    }
 
-        customerRepository.deleteById(customer.getId());
+    private static String toViolationMessage(Set<ConstraintViolation<CustomerRequest>> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
     }
 
 }
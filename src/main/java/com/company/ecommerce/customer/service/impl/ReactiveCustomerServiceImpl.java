@@ -0,0 +1,90 @@
+package com.company.ecommerce.customer.service.impl;
+
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.exception.ResourceNotFoundException;
+import com.company.ecommerce.customer.mapper.CustomerMapper;
+import com.company.ecommerce.customer.mapper.CustomerPatchMapper;
+import com.company.ecommerce.customer.repository.ReactiveCustomerRepository;
+import com.company.ecommerce.customer.service.ReactiveCustomerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSource;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_NOT_FOUND_KEY;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveCustomerServiceImpl implements ReactiveCustomerService {
+
+    private final MessageSource messageSource;
+    private final CustomerMapper customerMapper;
+    private final CustomerPatchMapper customerPatchMapper;
+    private final ReactiveCustomerRepository reactiveCustomerRepository;
+
+    @Override
+    public Flux<CustomerResponse> findAllCustomers() {
+        return reactiveCustomerRepository.findAllByOrderByIdAsc()
+                .map(customerMapper::mapToCustomerResponse);
+    }
+
+    @Override
+    public Mono<CustomerResponse> findCustomerById(String id, Locale locale) {
+        return reactiveCustomerRepository.findById(id)
+                .map(customerMapper::mapToCustomerResponse)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        messageSource, CUSTOMER_NOT_FOUND_KEY, id, locale)));
+    }
+
+    @Override
+    public Mono<CustomerResponse> createCustomer(CustomerRequest customerRequest) {
+        return reactiveCustomerRepository.save(customerMapper.mapToCustomer(customerRequest))
+                .map(customerMapper::mapToCustomerResponse);
+    }
+
+    @Override
+    public Mono<CustomerResponse> updateCustomerById(String id, CustomerRequest customerRequest, Locale locale) {
+        var customer = customerMapper.mapToCustomer(customerRequest);
+        var update = new Update()
+                .set("firstName", customer.getFirstName())
+                .set("lastName", customer.getLastName())
+                .set("email", customer.getEmail())
+                .set("phoneNumber", customer.getPhoneNumber())
+                .set("address", customer.getAddress());
+
+        return updateById(id, update, locale);
+    }
+
+    @Override
+    public Mono<CustomerResponse> patchCustomerById(String id, Map<String, Object> customerPatch, Locale locale) {
+        return Mono.fromCallable(() -> customerPatchMapper.mapToUpdate(customerPatch, locale))
+                .flatMap(update -> updateById(id, update, locale));
+    }
+
+    @Override
+    public Mono<Void> deleteCustomerById(String id, Locale locale) {
+        return reactiveCustomerRepository.deleteCustomerById(id)
+                .filter(deletedCount -> deletedCount > 0)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        messageSource, CUSTOMER_NOT_FOUND_KEY, id, locale)))
+                .then();
+    }
+
+    private Mono<CustomerResponse> updateById(String id, UpdateDefinition update, Locale locale) {
+        return reactiveCustomerRepository.updateById(id, update)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        messageSource, CUSTOMER_NOT_FOUND_KEY, id, locale)))
+                .map(customerMapper::mapToCustomerResponse);
+    }
+
+}
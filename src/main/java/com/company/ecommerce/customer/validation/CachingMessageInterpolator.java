@@ -0,0 +1,54 @@
+package com.company.ecommerce.customer.validation;
+
+import jakarta.validation.MessageInterpolator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+public class CachingMessageInterpolator implements MessageInterpolator {
+
+    private final MessageInterpolator delegate;
+    private final MessageSource messageSource;
+    private final Map<Locale, Map<String, Optional<String>>> resolvedMessages = new ConcurrentHashMap<>();
+
+    @Override
+    public String interpolate(String messageTemplate, Context context) {
+        return interpolate(messageTemplate, context, Locale.getDefault());
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context, Locale locale) {
+        if (!isMessageKey(messageTemplate)) {
+            return delegate.interpolate(messageTemplate, context, locale);
+        }
+
+        var messages = resolvedMessages.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+        var message = messages.get(messageTemplate);
+        if (Objects.isNull(message)) {
+            message = isConstant(messageTemplate, locale)
+                    ? Optional.of(delegate.interpolate(messageTemplate, context, locale))
+                    : Optional.empty();
+            messages.put(messageTemplate, message);
+        }
+        return message.orElseGet(() -> delegate.interpolate(messageTemplate, context, locale));
+    }
+
+    private boolean isConstant(String messageTemplate, Locale locale) {
+        var code = messageTemplate.substring(1, messageTemplate.length() - 1);
+        var message = messageSource.getMessage(code, null, null, locale);
+        return Objects.nonNull(message) && message.indexOf('{') < 0 && message.indexOf('$') < 0;
+    }
+
+    private static boolean isMessageKey(String messageTemplate) {
+        return messageTemplate.length() > 2
+                && messageTemplate.charAt(0) == '{'
+                && messageTemplate.indexOf('}') == messageTemplate.length() - 1;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.company.ecommerce.customer.validation;
+
+import com.company.ecommerce.customer.properties.CustomerValidationProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@ControllerAdvice
+@ConditionalOnWebApplication(type = SERVLET)
+public class FailFastValidationAdvice {
+
+    private final CustomerValidationProperties validationProperties;
+    private final SpringValidatorAdapter failFastValidator;
+    private final Map<Method, Boolean> failFastMethods = new ConcurrentHashMap<>();
+
+    public FailFastValidationAdvice(CustomerValidationProperties validationProperties,
+                                    LocalValidatorFactoryBean validatorFactory) {
+        this.validationProperties = validationProperties;
+        this.failFastValidator = new SpringValidatorAdapter(validatorFactory.unwrap(HibernateValidatorFactory.class)
+                .usingContext()
+                .failFast(true)
+                .getValidator());
+    }
+
+    @InitBinder
+    public void initBinder(WebDataBinder binder, HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod
+                && isFailFast(handlerMethod)) {
+            binder.replaceValidators(failFastValidator);
+        }
+    }
+
+    private boolean isFailFast(HandlerMethod handlerMethod) {
+        return failFastMethods.computeIfAbsent(handlerMethod.getMethod(), method -> validationProperties
+                .failFastOperations()
+                .contains(handlerMethod.getBeanType().getSimpleName() + "#" + method.getName()));
+    }
+
+}
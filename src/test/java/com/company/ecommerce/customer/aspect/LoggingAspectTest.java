@@ -0,0 +1,42 @@
+package com.company.ecommerce.customer.aspect;
+
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingAspectTest {
+
+    @Test
+    @DisplayName("Given one customer request argument when format then mask email and phone number")
+    void givenOneCustomerRequestArgument_whenFormat_thenMaskEmailAndPhoneNumber() {
+        var customerRequest = new CustomerRequest("Peter", "Larson", "plarson@gmail.com", "+51 962329330", null);
+
+        String formattedArguments = LoggingAspect.format(new Object[]{"66aeee840271a2600f91d799", customerRequest});
+
+        assertThat(formattedArguments)
+                .contains("66aeee840271a2600f91d799", "Peter", "p***@gmail.com", "+51 ***30")
+                .doesNotContain("plarson", "962329330");
+    }
+
+    @Test
+    @DisplayName("Given one long list result when format then truncate the list")
+    void givenOneLongListResult_whenFormat_thenTruncateTheList() {
+        List<Integer> result = IntStream.range(0, 10).boxed().toList();
+
+        assertThat(LoggingAspect.format(result))
+                .isEqualTo("[0, 1, 2, 3, 4]");
+    }
+
+    @Test
+    @DisplayName("Given one null result when format then return null text")
+    void givenOneNullResult_whenFormat_thenReturnNullText() {
+        assertThat(LoggingAspect.format(null))
+                .isEqualTo("null");
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.company.ecommerce.customer.aspect;
+
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.exception.ResourceNotFoundException;
+import com.company.ecommerce.customer.service.CustomerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsAspectTest {
+
+    @Mock
+    private CustomerService customerService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerService proxiedCustomerService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        var proxyFactory = new AspectJProxyFactory(customerService);
+        proxyFactory.addAspect(new MetricsAspect(meterRegistry));
+        proxiedCustomerService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Given one successful call when find customer by id then record timer and release in flight gauge")
+    void givenOneSuccessfulCall_whenFindCustomerById_thenRecordTimerAndReleaseInFlightGauge() {
+        when(customerService.findCustomerById(anyString()))
+                .thenReturn(new CustomerResponse("66aeee840271a2600f91d799", "Peter", "Larson",
+                        "plarson@gmail.com", "+51 962329330", null));
+
+        proxiedCustomerService.findCustomerById("66aeee840271a2600f91d799");
+
+        assertThat(meterRegistry.get("customer.service.invocations")
+                .tag("method", "findCustomerById")
+                .tag("exception", "none")
+                .timer()
+                .count())
+                .isEqualTo(1L);
+        assertThat(meterRegistry.get("customer.service.in.flight")
+                .tag("method", "findCustomerById")
+                .gauge()
+                .value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Given one failed call when find customer by id then count error by exception type")
+    void givenOneFailedCall_whenFindCustomerById_thenCountErrorByExceptionType() {
+        when(customerService.findCustomerById(anyString())).thenThrow(ResourceNotFoundException.class);
+
+        assertThatThrownBy(() -> proxiedCustomerService.findCustomerById("66aeee845291a2632f91d95a"))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(meterRegistry.get("customer.service.errors")
+                .tag("method", "findCustomerById")
+                .tag("exception", "ResourceNotFoundException")
+                .counter()
+                .count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("customer.service.invocations")
+                .tag("exception", "ResourceNotFoundException")
+                .timer()
+                .count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Given two failed calls when find customer by id then reuse the error meters")
+    void givenTwoFailedCalls_whenFindCustomerById_thenReuseTheErrorMeters() {
+        when(customerService.findCustomerById(anyString())).thenThrow(ResourceNotFoundException.class);
+
+        assertThatThrownBy(() -> proxiedCustomerService.findCustomerById("66aeee845291a2632f91d95a"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        var meters = meterRegistry.getMeters().size();
+        assertThatThrownBy(() -> proxiedCustomerService.findCustomerById("66aeee845291a2632f91d95a"))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(meterRegistry.getMeters()).hasSize(meters);
+        assertThat(meterRegistry.get("customer.service.errors")
+                .tag("method", "findCustomerById")
+                .tag("exception", "ResourceNotFoundException")
+                .counter()
+                .count())
+                .isEqualTo(2.0);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.company.ecommerce.customer.authorization;
+
+import com.company.ecommerce.customer.controller.CustomerController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HasAnyAuthorityAuthorizationManagerTest {
+
+    private HasAnyAuthorityAuthorizationManager authorizationManager;
+    private SimpleMethodInvocation findCustomerById;
+
+    @BeforeEach
+    void setUp() {
+        authorizationManager = new HasAnyAuthorityAuthorizationManager();
+        findCustomerById = new SimpleMethodInvocation(new CustomerController(null, null),
+                Arrays.stream(CustomerController.class.getMethods())
+                        .filter(method -> "findCustomerById".equals(method.getName()))
+                        .findFirst()
+                        .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Given one authority required by the controller when check then grant access")
+    void givenOneAuthorityRequiredByTheController_whenCheck_thenGrantAccess() {
+        var authentication = new TestingAuthenticationToken("00u1a2b3c4d5e6f7g8h9", null, "AUDITOR", "CUSTOMER MANAGER");
+
+        var decision = authorizationManager.check(() -> authentication, findCustomerById);
+
+        assertThat(decision.isGranted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given no authority required by the controller when check then deny access")
+    void givenNoAuthorityRequiredByTheController_whenCheck_thenDenyAccess() {
+        var authentication = new TestingAuthenticationToken("00u1a2b3c4d5e6f7g8h9", null, "AUDITOR", "customer manager");
+
+        var decision = authorizationManager.check(() -> authentication, findCustomerById);
+
+        assertThat(decision.isGranted()).isFalse();
+    }
+
+}
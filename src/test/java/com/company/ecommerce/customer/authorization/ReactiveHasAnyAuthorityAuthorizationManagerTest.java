@@ -0,0 +1,49 @@
+package com.company.ecommerce.customer.authorization;
+
+import com.company.ecommerce.customer.controller.ReactiveCustomerController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+
+class ReactiveHasAnyAuthorityAuthorizationManagerTest {
+
+    private ReactiveHasAnyAuthorityAuthorizationManager authorizationManager;
+    private SimpleMethodInvocation findCustomerById;
+
+    @BeforeEach
+    void setUp() {
+        authorizationManager = new ReactiveHasAnyAuthorityAuthorizationManager();
+        findCustomerById = new SimpleMethodInvocation(new ReactiveCustomerController(null),
+                Arrays.stream(ReactiveCustomerController.class.getMethods())
+                        .filter(method -> "findCustomerById".equals(method.getName()))
+                        .findFirst()
+                        .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Given one authority required by the controller when check then grant access")
+    void givenOneAuthorityRequiredByTheController_whenCheck_thenGrantAccess() {
+        var authentication = new TestingAuthenticationToken("00u1a2b3c4d5e6f7g8h9", null, "AUDITOR", "ADMINISTRATOR");
+
+        StepVerifier.create(authorizationManager.check(Mono.just(authentication), findCustomerById))
+                .expectNextMatches(AuthorizationDecision::isGranted)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Given no authentication when check then deny access")
+    void givenNoAuthentication_whenCheck_thenDenyAccess() {
+        StepVerifier.create(authorizationManager.check(Mono.<Authentication>empty(), findCustomerById))
+                .expectNextMatches(decision -> !decision.isGranted())
+                .verifyComplete();
+    }
+
+}
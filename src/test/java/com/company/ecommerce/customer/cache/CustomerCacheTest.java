@@ -0,0 +1,138 @@
+package com.company.ecommerce.customer.cache;
+
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.properties.CustomerCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerCacheTest {
+
+    private CustomerCache customerCache;
+
+    @BeforeEach
+    void setUp() {
+        customerCache = new CustomerCache(new CustomerCacheProperties(100, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("Given one customer not cached when get then load and cache the customer")
+    void givenOneCustomerNotCached_whenGet_thenLoadAndCacheTheCustomer() {
+        var customer = customer(1);
+
+        var loadedCustomer = customerCache.get(customer.getId(), id -> Optional.of(customer));
+        var cachedCustomer = customerCache.get(customer.getId(), id -> Optional.empty());
+
+        assertThat(loadedCustomer).contains(customer);
+        assertThat(cachedCustomer).contains(customer);
+    }
+
+    @Test
+    @DisplayName("Given one customer not in database when get then do not cache the absence")
+    void givenOneCustomerNotInDatabase_whenGet_thenDoNotCacheTheAbsence() {
+        var customer = customer(1);
+
+        var missingCustomer = customerCache.get(customer.getId(), id -> Optional.empty());
+        var loadedCustomer = customerCache.get(customer.getId(), id -> Optional.of(customer));
+
+        assertThat(missingCustomer).isEmpty();
+        assertThat(loadedCustomer).contains(customer);
+    }
+
+    @Test
+    @DisplayName("Given one customer cached when get all then load only the ids not cached")
+    void givenOneCustomerCached_whenGetAll_thenLoadOnlyTheIdsNotCached() {
+        var customer = customer(1);
+        var requestedIds = new AtomicReference<Set<String>>();
+        customerCache.put(customer);
+
+        var customers = customerCache.getAll(List.of(customer.getId(), "66aeee840271a2600f91d79a"), ids -> {
+            requestedIds.set(ids);
+            return Map.of();
+        });
+
+        assertThat(requestedIds.get()).containsExactly("66aeee840271a2600f91d79a");
+        assertThat(customers).containsOnly(Map.entry(customer.getId(), customer));
+    }
+
+    @Test
+    @DisplayName("Given a newer version cached when put an older version then keep the newer version")
+    void givenANewerVersionCached_whenPutAnOlderVersion_thenKeepTheNewerVersion() {
+        var newerCustomer = customer(2);
+        var olderCustomer = customer(1);
+
+        customerCache.put(newerCustomer);
+        customerCache.put(olderCustomer);
+
+        assertThat(customerCache.get(newerCustomer.getId(), id -> Optional.empty()))
+                .containsSame(newerCustomer);
+    }
+
+    @Test
+    @DisplayName("Given one customer cached when evict then load the customer again")
+    void givenOneCustomerCached_whenEvict_thenLoadTheCustomerAgain() {
+        var customer = customer(1);
+        customerCache.put(customer);
+
+        customerCache.evict(customer.getId());
+
+        assertThat(customerCache.get(customer.getId(), id -> Optional.empty()))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given many virtual threads reading one customer not cached when get then load the customer once")
+    void givenManyVirtualThreadsReadingOneCustomerNotCached_whenGet_thenLoadTheCustomerOnce() throws Exception {
+        var customer = customer(1);
+        var loads = new AtomicInteger();
+        var loading = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var readers = new ArrayList<Future<Optional<Customer>>>();
+            for (int i = 0; i < 1000; i++) {
+                readers.add(executor.submit(() -> customerCache.get(customer.getId(), id -> {
+                    loads.incrementAndGet();
+                    awaitQuietly(loading);
+                    return Optional.of(customer);
+                })));
+            }
+            loading.countDown();
+
+            for (var reader : readers) {
+                assertThat(reader.get()).contains(customer);
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Customer customer(int version) {
+        var customer = new Customer();
+        customer.setId("66aeee840271a2600f91d799");
+        customer.setFirstName("Peter");
+        customer.setVersion(version);
+        return customer;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.company.ecommerce.customer.cache;
+
+import com.company.ecommerce.customer.properties.CustomerEmailCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerEmailCacheTest {
+
+    private CustomerEmailCache customerEmailCache;
+
+    @BeforeEach
+    void setUp() {
+        customerEmailCache = new CustomerEmailCache(new CustomerEmailCacheProperties(100, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("Given one email not cached when get then load and cache the id but not the absence")
+    void givenOneEmailNotCached_whenGet_thenLoadAndCacheTheIdButNotTheAbsence() {
+        var loadedId = customerEmailCache.get("plarson@gmail.com", email -> Optional.of("66aeee840271a2600f91d799"));
+        var cachedId = customerEmailCache.get("plarson@gmail.com", email -> Optional.empty());
+        var missingId = customerEmailCache.get("rbrown@gmail.com", email -> Optional.empty());
+        var reloadedId = customerEmailCache.get("rbrown@gmail.com", email -> Optional.of("66aeee840271a2600f91d79a"));
+
+        assertThat(loadedId).contains("66aeee840271a2600f91d799");
+        assertThat(cachedId).contains("66aeee840271a2600f91d799");
+        assertThat(missingId).isEmpty();
+        assertThat(reloadedId).contains("66aeee840271a2600f91d79a");
+    }
+
+    @Test
+    @DisplayName("Given one email cached when get all then load only the emails not cached")
+    void givenOneEmailCached_whenGetAll_thenLoadOnlyTheEmailsNotCached() {
+        var requestedEmails = new AtomicReference<Set<String>>();
+        customerEmailCache.get("plarson@gmail.com", email -> Optional.of("66aeee840271a2600f91d799"));
+
+        var customerIds = customerEmailCache.getAll(List.of("plarson@gmail.com", "rbrown@gmail.com", "npatrick@gmail.com"),
+                emails -> {
+                    requestedEmails.set(emails);
+                    return Map.of("rbrown@gmail.com", "66aeee840271a2600f91d79a");
+                });
+
+        assertThat(requestedEmails.get())
+                .containsExactlyInAnyOrder("rbrown@gmail.com", "npatrick@gmail.com");
+        assertThat(customerIds)
+                .containsOnly(
+                        Map.entry("plarson@gmail.com", "66aeee840271a2600f91d799"),
+                        Map.entry("rbrown@gmail.com", "66aeee840271a2600f91d79a"));
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.company.ecommerce.customer.cache;
+
+import com.company.ecommerce.customer.properties.JwtCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtAuthenticationCacheTest {
+
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtAuthenticationCache = new JwtAuthenticationCache(
+                new JwtCacheProperties(100, Duration.ofMinutes(5), Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("Given one valid token authenticated when get then reuse the authentication without verifying again")
+    void givenOneValidTokenAuthenticated_whenGet_thenReuseTheAuthenticationWithoutVerifyingAgain() {
+        var verifications = new AtomicInteger();
+        var authentication = authentication("valid-token", Instant.now().plus(Duration.ofHours(1)));
+
+        var authenticated = jwtAuthenticationCache.get("valid-token", token -> {
+            verifications.incrementAndGet();
+            return authentication;
+        });
+        var reused = jwtAuthenticationCache.get("valid-token", token -> {
+            verifications.incrementAndGet();
+            return authentication("valid-token", Instant.now().plus(Duration.ofHours(1)));
+        });
+
+        assertThat(authenticated).isSameAs(authentication);
+        assertThat(reused).isSameAs(authentication);
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Given one token past its expiration when get then verify the token on every request")
+    void givenOneTokenPastItsExpiration_whenGet_thenVerifyTheTokenOnEveryRequest() {
+        var verifications = new AtomicInteger();
+
+        jwtAuthenticationCache.get("expired-token", token -> {
+            verifications.incrementAndGet();
+            return authentication(token, Instant.now().minusSeconds(1));
+        });
+        jwtAuthenticationCache.get("expired-token", token -> {
+            verifications.incrementAndGet();
+            return authentication(token, Instant.now().minusSeconds(1));
+        });
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Given one token rejected when get then rethrow the failure and verify the token again next time")
+    void givenOneTokenRejected_whenGet_thenRethrowTheFailureAndVerifyTheTokenAgainNextTime() {
+        var verifications = new AtomicInteger();
+
+        assertThatThrownBy(() -> jwtAuthenticationCache.get("invalid-token", token -> {
+            verifications.incrementAndGet();
+            throw new InvalidBearerTokenException("An error occurred while attempting to decode the Jwt");
+        }))
+                .isInstanceOf(InvalidBearerTokenException.class);
+        jwtAuthenticationCache.get("invalid-token", token -> {
+            verifications.incrementAndGet();
+            return authentication(token, Instant.now().plus(Duration.ofHours(1)));
+        });
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    private static JwtAuthenticationToken authentication(String token, Instant expiresAt) {
+        var jwt = Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("00u1a2b3c4d5e6f7g8h9")
+                .issuedAt(expiresAt.minus(Duration.ofHours(2)))
+                .expiresAt(expiresAt)
+                .build();
+        return new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("CUSTOMER MANAGER")));
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.company.ecommerce.customer.changestream;
+
+import com.company.ecommerce.customer.dto.CustomerChangeEvent;
+import com.company.ecommerce.customer.properties.CustomerChangeStreamProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+import static com.company.ecommerce.customer.dto.CustomerChangeType.DELETED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerChangeBroadcasterTest {
+
+    private CustomerChangeBroadcaster customerChangeBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        customerChangeBroadcaster = new CustomerChangeBroadcaster(new CustomerChangeStreamProperties(true, 2, 10,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMinutes(30), 32,
+                Duration.ofSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("Given no resume token when subscribe then share the change stream from now")
+    void givenNoResumeToken_whenSubscribe_thenShareTheChangeStreamFromNow() {
+        var subscribed = customerChangeBroadcaster.subscribe(new SseEmitter(), null);
+
+        assertThat(subscribed).isTrue();
+        assertThat(customerChangeBroadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given resume token older than the replayed changes when subscribe then do not share the change stream")
+    void givenResumeTokenOlderThanTheReplayedChanges_whenSubscribe_thenDoNotShareTheChangeStream() {
+        customerChangeBroadcaster.publish(changeEvent("01"));
+        customerChangeBroadcaster.publish(changeEvent("02"));
+        customerChangeBroadcaster.publish(changeEvent("03"));
+
+        var subscribedAfterDroppedChange = customerChangeBroadcaster.subscribe(new SseEmitter(), "01");
+        var subscribedAfterReplayedChange = customerChangeBroadcaster.subscribe(new SseEmitter(), "02");
+
+        assertThat(subscribedAfterDroppedChange).isFalse();
+        assertThat(subscribedAfterReplayedChange).isTrue();
+        assertThat(customerChangeBroadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    private static CustomerChangeEvent changeEvent(String resumeToken) {
+        return new CustomerChangeEvent(resumeToken, DELETED, "66aeee840271a2600f91d799", null, null);
+    }
+
+}
@@ -2,16 +2,28 @@ package com.company.ecommerce.customer.controller;
 
 import com.company.ecommerce.customer.dto.AddressRequest;
 import com.company.ecommerce.customer.dto.AddressResponse;
+import com.company.ecommerce.customer.dto.BulkCustomerItemResponse;
+import com.company.ecommerce.customer.dto.BulkCustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerBatchResponse;
+import com.company.ecommerce.customer.dto.CustomerEmailLookupResponse;
+import com.company.ecommerce.customer.dto.CustomerEmailResponse;
+import com.company.ecommerce.customer.dto.CustomerPageResponse;
 import com.company.ecommerce.customer.dto.CustomerRequest;
 import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
+import com.company.ecommerce.customer.exception.BusinessException;
+import com.company.ecommerce.customer.exception.PreconditionFailedException;
 import com.company.ecommerce.customer.exception.ResourceNotFoundException;
+import com.company.ecommerce.customer.properties.CustomerValidationProperties;
 import com.company.ecommerce.customer.service.CustomerService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -19,28 +31,53 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
-
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.APPLICATION_MERGE_PATCH_JSON_VALUE;
+import static com.company.ecommerce.customer.dto.BulkItemStatus.CONFLICT;
+import static com.company.ecommerce.customer.dto.BulkItemStatus.CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.MediaType.APPLICATION_CBOR;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CustomerController.class)
+@EnableConfigurationProperties(CustomerValidationProperties.class)
+@TestPropertySource(properties = "customer.validation.fail-fast-operations=CustomerController#updateCustomerById")
 class CustomerControllerTest {
 
     @Autowired
@@ -58,7 +95,7 @@ class CustomerControllerTest {
     private AddressResponse addressResponse;
     private CustomerResponse customerResponse1;
     private CustomerResponse customerResponse2;
-    private List<CustomerResponse> customerResponses;
+    private CustomerPageResponse customerPageResponse;
 
     @BeforeAll
     static void setUpAll() {
@@ -121,13 +158,13 @@ class CustomerControllerTest {
                 addressResponse
         );
 
-        customerResponses = List.of(customerResponse1, customerResponse2);
+        customerPageResponse = new CustomerPageResponse(List.of(customerResponse1, customerResponse2), null);
     }
 
     @Test
     @DisplayName("Given two customers in database when find all customers then return JSON customers")
     void givenTwoCustomersInDatabase_whenFindAllCustomers_thenReturnJSONCustomers() throws Exception {
-        when(customerService.findAllCustomers()).thenReturn(customerResponses);
+        when(customerService.findAllCustomers(isNull(), eq(50), isNull())).thenReturn(customerPageResponse);
 
         mockMvc.perform(get("/api/customers")
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
@@ -135,14 +172,93 @@ class CustomerControllerTest {
                         .headers(headers))
                 .andExpect(content().contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value("66aeee840271a2600f91d799"))
-                .andExpect(jsonPath("$[0].firstName").value("Peter"))
-                .andExpect(jsonPath("$[0].address.city").value("California"))
-                .andExpect(jsonPath("$[1].id").value("66aeee840271a2600f91d79a"))
-                .andExpect(jsonPath("$[1].firstName").value("Robert"))
-                .andExpect(jsonPath("$[1].address.city").value("California"));
+                .andExpect(jsonPath("$.customers[0].id").value("66aeee840271a2600f91d799"))
+                .andExpect(jsonPath("$.customers[0].firstName").value("Peter"))
+                .andExpect(jsonPath("$.customers[0].address.city").value("California"))
+                .andExpect(jsonPath("$.customers[1].id").value("66aeee840271a2600f91d79a"))
+                .andExpect(jsonPath("$.customers[1].firstName").value("Robert"))
+                .andExpect(jsonPath("$.customers[1].address.city").value("California"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(customerService).findAllCustomers(isNull(), eq(50), isNull());
+    }
+
+    @Test
+    @DisplayName("Given CBOR is accepted when find all customers then return CBOR customers page")
+    void givenCBORIsAccepted_whenFindAllCustomers_thenReturnCBORCustomersPage() throws Exception {
+        when(customerService.findAllCustomers(isNull(), eq(50), isNull())).thenReturn(customerPageResponse);
+
+        var mvcResult = mockMvc.perform(get("/api/customers")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .accept(APPLICATION_CBOR))
+                .andExpect(content().contentType(APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(new CBORMapper().readValue(mvcResult.getResponse().getContentAsByteArray(),
+                CustomerPageResponse.class))
+                .isEqualTo(customerPageResponse);
+    }
+
+    @Test
+    @DisplayName("Given a cursor when find all customers then return JSON customers page with next cursor")
+    void givenACursor_whenFindAllCustomers_thenReturnJSONCustomersPageWithNextCursor() throws Exception {
+        when(customerService.findAllCustomers("66aeee840271a2600f91d798", 1, null))
+                .thenReturn(new CustomerPageResponse(List.of(customerResponse1), "66aeee840271a2600f91d799"));
+
+        mockMvc.perform(get("/api/customers")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .param("cursor", "66aeee840271a2600f91d798")
+                        .param("size", "1"))
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customers.length()").value(1))
+                .andExpect(jsonPath("$.customers[0].id").value("66aeee840271a2600f91d799"))
+                .andExpect(jsonPath("$.nextCursor").value("66aeee840271a2600f91d799"));
+
+        verify(customerService).findAllCustomers("66aeee840271a2600f91d798", 1, null);
+    }
+
+    @Test
+    @DisplayName("Given search filters when search customers then return JSON customers page")
+    void givenSearchFilters_whenSearchCustomers_thenReturnJSONCustomersPage() throws Exception {
+        var criteria = new CustomerSearchCriteria("Pe", "Lar", null, "California", null, "USA");
+        when(customerService.searchCustomers(criteria, null, 50))
+                .thenReturn(new CustomerPageResponse(List.of(customerResponse1), null));
+
+        mockMvc.perform(get("/api/customers/search")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .param("firstName", "Pe")
+                        .param("lastName", "Lar")
+                        .param("city", "California")
+                        .param("country", "USA"))
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customers.length()").value(1))
+                .andExpect(jsonPath("$.customers[0].id").value("66aeee840271a2600f91d799"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
 
-        verify(customerService).findAllCustomers();
+        verify(customerService).searchCustomers(criteria, null, 50);
+    }
+
+    @Test
+    @DisplayName("Given no search filters when search customers then return status UNPROCESSABLE ENTITY")
+    void givenNoSearchFilters_whenSearchCustomers_thenReturnStatusUnprocessableEntity() throws Exception {
+        when(customerService.searchCustomers(any(), any(), anyInt()))
+                .thenThrow(new BusinessException("At least one search filter is required"));
+
+        mockMvc.perform(get("/api/customers/search")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.detail").value("At least one search filter is required"));
     }
 
     @Test
@@ -157,7 +273,7 @@ class CustomerControllerTest {
     @Test
     @DisplayName("Given an user is not granted with role customer when find all customers then return status FORBIDDEN")
     void givenAnUserIsNotGrantedWithRoleCustomer_whenFindAllCustomers_thenReturnStatusForbidden() throws Exception {
-        when(customerService.findAllCustomers()).thenThrow(AccessDeniedException.class);
+        when(customerService.findAllCustomers(any(), anyInt(), any())).thenThrow(AccessDeniedException.class);
 
         mockMvc.perform(get("/api/customers")
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
@@ -170,7 +286,7 @@ class CustomerControllerTest {
     @Test
     @DisplayName("Given an unexpected error when find all customers then return status INTERNAL SERVER ERROR")
     void givenAnUnexpectedError_whenFindAllCustomers_thenReturnStatusInternalServerError() throws Exception {
-        when(customerService.findAllCustomers()).thenThrow(RuntimeException.class);
+        when(customerService.findAllCustomers(any(), anyInt(), any())).thenThrow(RuntimeException.class);
 
         mockMvc.perform(get("/api/customers")
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
@@ -179,13 +295,34 @@ class CustomerControllerTest {
                 .andExpect(content().contentType(APPLICATION_PROBLEM_JSON))
                 .andExpect(status().isInternalServerError());
 
-        verify(customerService).findAllCustomers();
+        verify(customerService).findAllCustomers(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Given two customers in database when export customers then return NDJSON customers")
+    void givenTwoCustomersInDatabase_whenExportCustomers_thenReturnNDJSONCustomers() throws Exception {
+        when(customerService.exportCustomers()).thenReturn(Stream.of(customerResponse1, customerResponse2));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/customers/export")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(content().contentType(APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().string(objectMapper.writeValueAsString(customerResponse1) + "\n"
+                        + objectMapper.writeValueAsString(customerResponse2) + "\n"));
+
+        verify(customerService).exportCustomers();
     }
 
     @Test
     @DisplayName("Given one customer in database when find customer by id then return JSON customer")
     void givenOneCustomerInDatabase_whenFindCustomerById_thenReturnJSONCustomer() throws Exception {
-        when(customerService.findCustomerById(anyString())).thenReturn(customerResponse1);
+        when(customerService.findCustomerById(anyString(), any())).thenReturn(customerResponse1);
 
         mockMvc.perform(get("/api/customers/{id}", "66aeee840271a2600f91d799")
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
@@ -195,15 +332,186 @@ class CustomerControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value("66aeee840271a2600f91d799"))
                 .andExpect(jsonPath("$.firstName").value("Peter"))
-                .andExpect(jsonPath("$.address.city").value("California"));
+                .andExpect(jsonPath("$.address.city").value("California"))
+                .andExpect(header().string(ETAG, "\"66aeee840271a2600f91d799-0\""));
+
+        verify(customerService).findCustomerById(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Given current entity tag when find customer by id then return status NOT MODIFIED")
+    void givenCurrentEntityTag_whenFindCustomerById_thenReturnStatusNotModified() throws Exception {
+        when(customerService.findCustomerVersionById("66aeee840271a2600f91d799")).thenReturn(3);
+
+        mockMvc.perform(get("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .header(IF_NONE_MATCH, "\"66aeee840271a2600f91d799-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, "\"66aeee840271a2600f91d799-3\""))
+                .andExpect(content().string(""));
+
+        verify(customerService, never()).findCustomerById(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Given selected fields when find customer by id then return only the selected JSON fields")
+    void givenSelectedFields_whenFindCustomerById_thenReturnOnlyTheSelectedJSONFields() throws Exception {
+        when(customerService.findCustomerById("66aeee840271a2600f91d799", "firstName,email")).thenReturn(
+                new CustomerResponse("66aeee840271a2600f91d799", "Peter", null, "plarson@gmail.com", null, null));
+
+        mockMvc.perform(get("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .param("fields", "firstName,email"))
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, "W/\"66aeee840271a2600f91d799-0-email.firstName.id\""))
+                .andExpect(content().json("""
+                        {"id":"66aeee840271a2600f91d799","firstName":"Peter","email":"plarson@gmail.com"}
+                        """, true));
+
+        verify(customerService).findCustomerById("66aeee840271a2600f91d799", "firstName,email");
+    }
+
+    @Test
+    @DisplayName("Given no selected fields when find customer by id then keep null JSON fields")
+    void givenNoSelectedFields_whenFindCustomerById_thenKeepNullJSONFields() throws Exception {
+        when(customerService.findCustomerById("66aeee840271a2600f91d799", null)).thenReturn(
+                new CustomerResponse("66aeee840271a2600f91d799", "Peter", "Larson", "plarson@gmail.com", null, null));
+
+        mockMvc.perform(get("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {"id":"66aeee840271a2600f91d799","firstName":"Peter","lastName":"Larson",
+                         "email":"plarson@gmail.com","phoneNumber":null,"address":null}
+                        """, true));
+    }
+
+    @Test
+    @DisplayName("Given selected fields when find all customers then return only the selected JSON fields")
+    void givenSelectedFields_whenFindAllCustomers_thenReturnOnlyTheSelectedJSONFields() throws Exception {
+        when(customerService.findAllCustomers(null, 50, "email")).thenReturn(new CustomerPageResponse(
+                List.of(new CustomerResponse("66aeee840271a2600f91d799", null, null, "plarson@gmail.com", null, null)),
+                null));
+
+        mockMvc.perform(get("/api/customers")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {"customers":[{"id":"66aeee840271a2600f91d799","email":"plarson@gmail.com"}]}
+                        """, true));
+    }
+
+    @Test
+    @DisplayName("Given full entity tag and selected fields when find customer by id then return status OK")
+    void givenFullEntityTagAndSelectedFields_whenFindCustomerById_thenReturnStatusOk() throws Exception {
+        when(customerService.findCustomerVersionById("66aeee840271a2600f91d799")).thenReturn(3);
+        when(customerService.findCustomerById("66aeee840271a2600f91d799", "firstName,email")).thenReturn(
+                new CustomerResponse("66aeee840271a2600f91d799", "Peter", null, "plarson@gmail.com", null, null, 3));
+
+        mockMvc.perform(get("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .param("fields", "firstName,email")
+                        .header(IF_NONE_MATCH, "\"66aeee840271a2600f91d799-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, "W/\"66aeee840271a2600f91d799-3-email.firstName.id\""));
+    }
+
+    @Test
+    @DisplayName("Given projection entity tag and same selected fields when find customer by id then return status NOT MODIFIED")
+    void givenProjectionEntityTagAndSameSelectedFields_whenFindCustomerById_thenReturnStatusNotModified() throws Exception {
+        when(customerService.findCustomerVersionById("66aeee840271a2600f91d799")).thenReturn(3);
+
+        mockMvc.perform(get("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .param("fields", "email,firstName")
+                        .header(IF_NONE_MATCH, "W/\"66aeee840271a2600f91d799-3-email.firstName.id\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, "W/\"66aeee840271a2600f91d799-3-email.firstName.id\""));
+
+        verify(customerService, never()).findCustomerById(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Given two ids when find customers by ids then return JSON customers and missing ids")
+    void givenTwoIds_whenFindCustomersByIds_thenReturnJSONCustomersAndMissingIds() throws Exception {
+        var ids = List.of("66aeee840271a2600f91d799", "66aeee845291a2632f91d95a");
+        when(customerService.findCustomersByIds(ids)).thenReturn(new CustomerBatchResponse(
+                List.of(customerResponse1), List.of("66aeee845291a2632f91d95a")));
+
+        mockMvc.perform(post("/api/customers/batch-get")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .contentType(APPLICATION_JSON)
+                        .headers(headers)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customers.length()").value(1))
+                .andExpect(jsonPath("$.customers[0].id").value("66aeee840271a2600f91d799"))
+                .andExpect(jsonPath("$.missingIds[0]").value("66aeee845291a2632f91d95a"));
+
+        verify(customerService).findCustomersByIds(ids);
+    }
+
+    @Test
+    @DisplayName("Given one customer in database when find customer by email then return JSON customer")
+    void givenOneCustomerInDatabase_whenFindCustomerByEmail_thenReturnJSONCustomer() throws Exception {
+        when(customerService.findCustomerByEmail("plarson@gmail.com")).thenReturn(customerResponse1);
+
+        mockMvc.perform(get("/api/customers/lookup")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .param("email", "plarson@gmail.com"))
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("66aeee840271a2600f91d799"))
+                .andExpect(jsonPath("$.email").value("plarson@gmail.com"));
 
-        verify(customerService).findCustomerById(anyString());
+        verify(customerService).findCustomerByEmail("plarson@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Given two emails when find customer ids by emails then return JSON ids and missing emails")
+    void givenTwoEmails_whenFindCustomerIdsByEmails_thenReturnJSONIdsAndMissingEmails() throws Exception {
+        var emails = List.of("plarson@gmail.com", "npatrick@gmail.com");
+        when(customerService.findCustomerIdsByEmails(emails)).thenReturn(new CustomerEmailLookupResponse(
+                List.of(new CustomerEmailResponse("plarson@gmail.com", "66aeee840271a2600f91d799")),
+                List.of("npatrick@gmail.com")));
+
+        mockMvc.perform(post("/api/customers/lookup")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .contentType(APPLICATION_JSON)
+                        .headers(headers)
+                        .content(objectMapper.writeValueAsString(emails)))
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customers[0].email").value("plarson@gmail.com"))
+                .andExpect(jsonPath("$.customers[0].id").value("66aeee840271a2600f91d799"))
+                .andExpect(jsonPath("$.missingEmails[0]").value("npatrick@gmail.com"));
+
+        verify(customerService).findCustomerIdsByEmails(emails);
     }
 
     @Test
     @DisplayName("Given one customer is not in database when find customer by id then return status NOT FOUND")
     void givenOneCustomerIsNotInDatabase_whenFindCustomerById_thenReturnStatusNotFound() throws Exception {
-        when(customerService.findCustomerById(anyString())).thenThrow(ResourceNotFoundException.class);
+        when(customerService.findCustomerById(anyString(), any())).thenThrow(ResourceNotFoundException.class);
 
         mockMvc.perform(get("/api/customers/{id}", "66aeee845291a2632f91d95a")
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
@@ -212,7 +520,7 @@ class CustomerControllerTest {
                 .andExpect(content().contentType(APPLICATION_PROBLEM_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(customerService).findCustomerById(anyString());
+        verify(customerService).findCustomerById(anyString(), any());
     }
 
     @Test
@@ -267,10 +575,34 @@ class CustomerControllerTest {
         verify(customerService).createCustomer(any(CustomerRequest.class));
     }
 
+    @Test
+    @DisplayName("Given two new customers when create customers then return JSON result of each one")
+    void givenTwoNewCustomers_whenCreateCustomers_thenReturnJSONResultOfEachOne() throws Exception {
+        when(customerService.createCustomers(anyList())).thenReturn(new BulkCustomerResponse(1, 1, List.of(
+                new BulkCustomerItemResponse(0, CREATED, "66aeee840271a2600f91d799", null),
+                new BulkCustomerItemResponse(1, CONFLICT, null, "Email npatrick@gmail.com is already registered"))));
+
+        mockMvc.perform(post("/api/customers/bulk")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .contentType(APPLICATION_JSON)
+                        .headers(headers)
+                        .content(objectMapper.writeValueAsString(List.of(customerRequest, customerRequest))))
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[0].id").value("66aeee840271a2600f91d799"))
+                .andExpect(jsonPath("$.items[1].status").value("CONFLICT"));
+
+        verify(customerService).createCustomers(anyList());
+    }
+
     @Test
     @DisplayName("Given one customer in database when update customer by id then return JSON updated customer")
     void givenOneCustomerInDatabase_whenUpdateCustomerById_thenReturnJSONUpdatedCustomer() throws Exception {
-        when(customerService.updateCustomerById(anyString(), any(CustomerRequest.class))).thenReturn(customerResponse1);
+        when(customerService.updateCustomerById(anyString(), any(CustomerRequest.class), isNull())).thenReturn(customerResponse1);
 
         mockMvc.perform(put("/api/customers/{id}", "66aeee840271a2600f91d799")
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
@@ -284,13 +616,13 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.firstName").value("Peter"))
                 .andExpect(jsonPath("$.address.city").value("California"));
 
-        verify(customerService).updateCustomerById(anyString(), any(CustomerRequest.class));
+        verify(customerService).updateCustomerById(anyString(), any(CustomerRequest.class), isNull());
     }
 
     @Test
     @DisplayName("Given one customer is not in database when update customer by id then return status NOT FOUND")
     void givenOneCustomerIsNotInDatabase_whenUpdateCustomerById_thenReturnStatusNotFound() throws Exception {
-        when(customerService.updateCustomerById(anyString(), any(CustomerRequest.class)))
+        when(customerService.updateCustomerById(anyString(), any(CustomerRequest.class), isNull()))
                 .thenThrow(ResourceNotFoundException.class);
 
         mockMvc.perform(put("/api/customers/{id}", "66aeee845291a2632f91d95a")
@@ -302,13 +634,84 @@ class CustomerControllerTest {
                 .andExpect(content().contentType(APPLICATION_PROBLEM_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(customerService).updateCustomerById(anyString(), any(CustomerRequest.class));
+        verify(customerService).updateCustomerById(anyString(), any(CustomerRequest.class), isNull());
+    }
+
+    @Test
+    @DisplayName("Given stale entity tag when update customer by id then return status PRECONDITION FAILED")
+    void givenStaleEntityTag_whenUpdateCustomerById_thenReturnStatusPreconditionFailed() throws Exception {
+        when(customerService.updateCustomerById(anyString(), any(CustomerRequest.class), eq(1)))
+                .thenThrow(PreconditionFailedException.class);
+
+        mockMvc.perform(put("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .contentType(APPLICATION_JSON)
+                        .headers(headers)
+                        .header(IF_MATCH, "\"66aeee840271a2600f91d799-1\"")
+                        .content(objectMapper.writeValueAsString(customerRequest)))
+                .andExpect(content().contentType(APPLICATION_PROBLEM_JSON))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(customerService).updateCustomerById(anyString(), any(CustomerRequest.class), eq(1));
+    }
+
+    @Test
+    @DisplayName("Given one customer with several incorrect fields when update customer by id with fail fast then return only the first validation")
+    void givenOneCustomerWithSeveralIncorrectFields_whenUpdateCustomerByIdWithFailFast_thenReturnOnlyTheFirstValidation() throws Exception {
+        var invalidCustomerRequest = new CustomerRequest("", "", "npatrick_gmail.com", "962-329-330", addressRequest);
+
+        mockMvc.perform(put("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .contentType(APPLICATION_JSON)
+                        .headers(headers)
+                        .content(objectMapper.writeValueAsString(invalidCustomerRequest)))
+                .andExpect(content().contentType(APPLICATION_PROBLEM_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validations", aMapWithSize(1)));
+
+        verify(customerService, never()).updateCustomerById(anyString(), any(CustomerRequest.class), any());
+    }
+
+    @Test
+    @DisplayName("Given one customer in database when patch customer by id then return JSON patched customer")
+    void givenOneCustomerInDatabase_whenPatchCustomerById_thenReturnJSONPatchedCustomer() throws Exception {
+        when(customerService.patchCustomerById(anyString(), anyMap())).thenReturn(customerResponse1);
+
+        mockMvc.perform(patch("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .contentType(APPLICATION_MERGE_PATCH_JSON_VALUE)
+                        .headers(headers)
+                        .content(objectMapper.writeValueAsString(Map.of("address", Map.of("city", "California")))))
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("66aeee840271a2600f91d799"))
+                .andExpect(jsonPath("$.address.city").value("California"));
+
+        verify(customerService).patchCustomerById(eq("66aeee840271a2600f91d799"),
+                eq(Map.of("address", Map.of("city", "California"))));
+    }
+
+    @Test
+    @DisplayName("Given one customer patch sent as JSON when patch customer by id then return status UNSUPPORTED MEDIA TYPE")
+    void givenOneCustomerPatchSentAsJSON_whenPatchCustomerById_thenReturnStatusUnsupportedMediaType() throws Exception {
+        mockMvc.perform(patch("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .contentType(APPLICATION_JSON)
+                        .headers(headers)
+                        .content(objectMapper.writeValueAsString(Map.of("firstName", "Peter"))))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(customerService, never()).patchCustomerById(anyString(), anyMap());
     }
 
     @Test
     @DisplayName("Given one customer in database when delete customer by id then return status NO CONTENT")
     void givenOneCustomerInDatabase_whenDeleteCustomerById_thenReturnStatusOKAndJSONDeletedMessage() throws Exception {
-        doNothing().when(customerService).deleteCustomerById(anyString());
+        doNothing().when(customerService).deleteCustomerById(anyString(), isNull());
 
         mockMvc.perform(delete("/api/customers/{id}", "66aeee840271a2600f91d799")
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
@@ -316,13 +719,28 @@ class CustomerControllerTest {
                         .headers(headers))
                 .andExpect(status().isNoContent());
 
-        verify(customerService).deleteCustomerById(anyString());
+        verify(customerService).deleteCustomerById(anyString(), isNull());
+    }
+
+    @Test
+    @DisplayName("Given current entity tag when delete customer by id then delete only that version")
+    void givenCurrentEntityTag_whenDeleteCustomerById_thenDeleteOnlyThatVersion() throws Exception {
+        doNothing().when(customerService).deleteCustomerById("66aeee840271a2600f91d799", 2);
+
+        mockMvc.perform(delete("/api/customers/{id}", "66aeee840271a2600f91d799")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                        .headers(headers)
+                        .header(IF_MATCH, "\"66aeee840271a2600f91d799-2\""))
+                .andExpect(status().isNoContent());
+
+        verify(customerService).deleteCustomerById("66aeee840271a2600f91d799", 2);
     }
 
     @Test
     @DisplayName("Given one customer is not in database when delete customer by id then return status NOT FOUND")
     void givenOneCustomerIsNotInDatabase_whenDeleteCustomerById_thenReturnStatusNotFound() throws Exception {
-        doThrow(ResourceNotFoundException.class).when(customerService).deleteCustomerById(anyString());
+        doThrow(ResourceNotFoundException.class).when(customerService).deleteCustomerById(anyString(), isNull());
 
         mockMvc.perform(delete("/api/customers/{id}", "66aeee845291a2632f91d95a")
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
@@ -331,7 +749,7 @@ class CustomerControllerTest {
                 .andExpect(content().contentType(APPLICATION_PROBLEM_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(customerService).deleteCustomerById(anyString());
+        verify(customerService).deleteCustomerById(anyString(), isNull());
     }
 
 }
@@ -0,0 +1,226 @@
+package com.company.ecommerce.customer.controller;
+
+import com.company.ecommerce.customer.config.ReactiveSecurityConfig;
+import com.company.ecommerce.customer.dto.AddressRequest;
+import com.company.ecommerce.customer.dto.AddressResponse;
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.exception.ResourceNotFoundException;
+import com.company.ecommerce.customer.service.ReactiveCustomerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Locale;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.csrf;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+
+@WebFluxTest(ReactiveCustomerController.class)
+@Import(ReactiveSecurityConfig.class)
+class ReactiveCustomerControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveCustomerService reactiveCustomerService;
+
+    @MockBean
+    private ReactiveJwtDecoder reactiveJwtDecoder;
+
+    private CustomerRequest customerRequest;
+    private CustomerResponse customerResponse1;
+    private CustomerResponse customerResponse2;
+
+    @BeforeEach
+    void setUp() {
+        var addressRequest = new AddressRequest(
+                "218 Newbury Street",
+                "Chicago",
+                "Illinois",
+                "16088",
+                "USA"
+        );
+
+        customerRequest = new CustomerRequest(
+                "Nelson",
+                "Patrick",
+                "npatrick@gmail.com",
+                "+51 962329330",
+                addressRequest
+        );
+
+        var addressResponse = new AddressResponse(
+                "218 Newbury Street",
+                "California",
+                "Florida",
+                "16077",
+                "USA"
+        );
+
+        customerResponse1 = new CustomerResponse(
+                "66aeee840271a2600f91d799",
+                "Peter",
+                "Larson",
+                "plarson@gmail.com",
+                "+51 954587651",
+                addressResponse
+        );
+
+        customerResponse2 = new CustomerResponse(
+                "66aeee840271a2600f91d79a",
+                "Robert",
+                "Brown",
+                "rbrown@gmail.com",
+                "+51 963587193",
+                addressResponse
+        );
+    }
+
+    @Test
+    @DisplayName("Given two customers in database when find all customers as NDJSON then stream one customer per line")
+    void givenTwoCustomersInDatabase_whenFindAllCustomersAsNDJSON_thenStreamOneCustomerPerLine() {
+        when(reactiveCustomerService.findAllCustomers()).thenReturn(Flux.just(customerResponse1, customerResponse2));
+
+        var customerResponses = webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("ADMINISTRATOR")))
+                .get()
+                .uri("/api/customers")
+                .header("X-Api-Version", "v1")
+                .header("Accept-Language", "en")
+                .accept(APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(APPLICATION_NDJSON)
+                .returnResult(CustomerResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(customerResponses)
+                .expectNext(customerResponse1, customerResponse2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Given two customers in database when find all customers as JSON then return JSON array")
+    void givenTwoCustomersInDatabase_whenFindAllCustomersAsJSON_thenReturnJSONArray() {
+        when(reactiveCustomerService.findAllCustomers()).thenReturn(Flux.just(customerResponse1, customerResponse2));
+
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("ADMINISTRATOR")))
+                .get()
+                .uri("/api/customers")
+                .header("X-Api-Version", "v1")
+                .header("Accept-Language", "en")
+                .accept(APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[1].id").isEqualTo("66aeee840271a2600f91d79a");
+    }
+
+    @Test
+    @DisplayName("Given an user is not granted with role customer when find all customers then return status FORBIDDEN")
+    void givenAnUserIsNotGrantedWithRoleCustomer_whenFindAllCustomers_thenReturnStatusForbidden() {
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("GUEST")))
+                .get()
+                .uri("/api/customers")
+                .header("X-Api-Version", "v1")
+                .header("Accept-Language", "en")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        verify(reactiveCustomerService, never()).findAllCustomers();
+    }
+
+    @Test
+    @DisplayName("Given one customer is not in database when find customer by id then return status NOT FOUND")
+    void givenOneCustomerIsNotInDatabase_whenFindCustomerById_thenReturnStatusNotFound() {
+        when(reactiveCustomerService.findCustomerById(anyString(), any(Locale.class)))
+                .thenReturn(Mono.error(new ResourceNotFoundException("Customer not found")));
+
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                .get()
+                .uri("/api/customers/{id}", "66aeee845291a2632f91d95a")
+                .header("X-Api-Version", "v1")
+                .header("Accept-Language", "en")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectHeader().contentType(APPLICATION_PROBLEM_JSON);
+    }
+
+    @Test
+    @DisplayName("Given one new customer when create customer then return JSON created customer")
+    void givenOneNewCustomer_whenCreateCustomer_thenReturnJSONCreatedCustomer() {
+        when(reactiveCustomerService.createCustomer(any(CustomerRequest.class))).thenReturn(Mono.just(customerResponse1));
+
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                .mutateWith(csrf())
+                .post()
+                .uri("/api/customers")
+                .header("X-Api-Version", "v1")
+                .header("Accept-Language", "en")
+                .contentType(APPLICATION_JSON)
+                .bodyValue(customerRequest)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("66aeee840271a2600f91d799");
+    }
+
+    @Test
+    @DisplayName("Given one customer with incorrect data when create customer then return status BAD REQUEST")
+    void givenOneCustomerWithIncorrectData_whenCreateCustomer_thenReturnStatusBadRequest() {
+        var customerBadRequest = new CustomerRequest("Nelson", "Patrick", "npatrick_gmail.com", "+51 962329330", null);
+
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                .mutateWith(csrf())
+                .post()
+                .uri("/api/customers")
+                .header("X-Api-Version", "v1")
+                .header("Accept-Language", "en")
+                .contentType(APPLICATION_JSON)
+                .bodyValue(customerBadRequest)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.validations.email").exists();
+
+        verify(reactiveCustomerService, never()).createCustomer(any(CustomerRequest.class));
+    }
+
+    @Test
+    @DisplayName("Given one customer in database when delete customer by id then return status NO CONTENT")
+    void givenOneCustomerInDatabase_whenDeleteCustomerById_thenReturnStatusNoContent() {
+        when(reactiveCustomerService.deleteCustomerById(anyString(), any(Locale.class))).thenReturn(Mono.empty());
+
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("CUSTOMER MANAGER")))
+                .mutateWith(csrf())
+                .delete()
+                .uri("/api/customers/{id}", "66aeee840271a2600f91d799")
+                .header("X-Api-Version", "v1")
+                .header("Accept-Language", "en")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        verify(reactiveCustomerService).deleteCustomerById(anyString(), any(Locale.class));
+    }
+
+}
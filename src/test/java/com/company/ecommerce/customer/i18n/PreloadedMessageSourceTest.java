@@ -0,0 +1,83 @@
+package com.company.ecommerce.customer.i18n;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+
+import java.util.Locale;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_NOT_FOUND_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PreloadedMessageSourceTest {
+
+    private PreloadedMessageSource messageSource;
+
+    @BeforeEach
+    void setUp() {
+        var messageSourceProperties = new MessageSourceProperties();
+        messageSourceProperties.setBasename("i18n/messages");
+        messageSourceProperties.setFallbackToSystemLocale(false);
+        messageSource = PreloadedMessageSource.load(messageSourceProperties);
+    }
+
+    @Test
+    @DisplayName("Given one message with arguments when get message then format it for the most specific locale")
+    void givenOneMessageWithArguments_whenGetMessage_thenFormatItForTheMostSpecificLocale() {
+        var englishMessage = messageSource.getMessage(CUSTOMER_NOT_FOUND_KEY,
+                new Object[] { "66aeee840271a2600f91d799" }, Locale.ENGLISH);
+        var peruvianMessage = messageSource.getMessage(CUSTOMER_NOT_FOUND_KEY,
+                new Object[] { "66aeee840271a2600f91d799" }, Locale.forLanguageTag("es-PE"));
+        var frenchMessage = messageSource.getMessage(CUSTOMER_NOT_FOUND_KEY,
+                new Object[] { "66aeee840271a2600f91d799" }, Locale.FRENCH);
+
+        assertThat(messageSource.getLocales()).contains(Locale.ENGLISH, Locale.forLanguageTag("es"));
+        assertThat(englishMessage).isEqualTo("Customer with id 66aeee840271a2600f91d799 not found");
+        assertThat(peruvianMessage).isEqualTo("Cliente con id 66aeee840271a2600f91d799 no encontrado");
+        assertThat(frenchMessage).isEqualTo("Customer with id 66aeee840271a2600f91d799 not found");
+    }
+
+    @Test
+    @DisplayName("Given one message without arguments when get message then return the template as written")
+    void givenOneMessageWithoutArguments_whenGetMessage_thenReturnTheTemplateAsWritten() {
+        var message = messageSource.getMessage("message.customer.email.invalid-format", null, Locale.ENGLISH);
+        var resolvableMessage = messageSource.getMessage(new DefaultMessageSourceResolvable(
+                new String[] { "message.customer.unknown", "message.customer.email.required" }, (Object[]) null),
+                Locale.ENGLISH);
+
+        assertThat(message).isEqualTo("Email '${validatedValue}' has invalid format");
+        assertThat(resolvableMessage).isEqualTo("Email is required");
+    }
+
+    @Test
+    @DisplayName("Given one unknown code when get message then return the default message or throw")
+    void givenOneUnknownCode_whenGetMessage_thenReturnTheDefaultMessageOrThrow() {
+        var defaultMessage = messageSource.getMessage("message.customer.unknown", new Object[] { "id" },
+                "Unknown {0}", Locale.ENGLISH);
+
+        assertThat(defaultMessage).isEqualTo("Unknown id");
+        assertThatThrownBy(() -> messageSource.getMessage("message.customer.unknown", null, Locale.ENGLISH))
+                .isInstanceOf(NoSuchMessageException.class);
+    }
+
+    @Test
+    @DisplayName("Given null code when get message then return the default message or throw")
+    void givenNullCode_whenGetMessage_thenReturnTheDefaultMessageOrThrow() {
+        var defaultMessage = messageSource.getMessage(null, null, "Unknown", Locale.ENGLISH);
+        var resolvableMessage = messageSource.getMessage(new DefaultMessageSourceResolvable(
+                new String[] { null }, null, "Unknown resolvable"), Locale.ENGLISH);
+
+        assertThat(defaultMessage).isEqualTo("Unknown");
+        assertThat(resolvableMessage).isEqualTo("Unknown resolvable");
+        assertThatThrownBy(() -> messageSource.getMessage(null, null, Locale.ENGLISH))
+                .isInstanceOf(NoSuchMessageException.class);
+        assertThatThrownBy(() -> messageSource.getMessage(new DefaultMessageSourceResolvable(
+                new String[] { null }, null, null), Locale.ENGLISH))
+                .isInstanceOf(NoSuchMessageException.class);
+    }
+
+}
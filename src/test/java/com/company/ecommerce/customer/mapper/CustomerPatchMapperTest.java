@@ -0,0 +1,140 @@
+package com.company.ecommerce.customer.mapper;
+
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.exception.BusinessException;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_PATCH_INVALID_VALUE_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_PATCH_UNKNOWN_FIELD_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerPatchMapperTest {
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private CustomerPatchMapper customerPatchMapper;
+
+    @Test
+    @DisplayName("Given one customer patch with nested address field when map to update then set only the given paths")
+    void givenOneCustomerPatchWithNestedAddressField_whenMapToUpdate_thenSetOnlyTheGivenPaths() {
+        var update = customerPatchMapper.mapToUpdate(Map.of(
+                "email", "plarson1980@gmail.com",
+                "address", Map.of("city", "Miami")), Locale.ENGLISH);
+
+        assertThat(update).isInstanceOf(AggregationUpdate.class);
+        var pipeline = pipeline(update);
+        assertThat(pipeline.getFirst())
+                .isEqualTo(new Document("$set", new Document("address",
+                        new Document("$ifNull", List.of("$address", new Document())))));
+        assertThat(pipeline.subList(1, pipeline.size()))
+                .containsExactlyInAnyOrder(
+                        new Document("$set", new Document("email", new Document("$literal", "plarson1980@gmail.com"))),
+                        new Document("$set", new Document("address.city", new Document("$literal", "Miami"))));
+    }
+
+    @Test
+    @DisplayName("Given one customer patch with mixed case email when map to update then set the lower-cased email")
+    void givenOneCustomerPatchWithMixedCaseEmail_whenMapToUpdate_thenSetTheLowerCasedEmail() {
+        var update = customerPatchMapper.mapToUpdate(Map.of("email", "PLarson1980@Gmail.com"), Locale.ENGLISH);
+
+        assertThat(update.getUpdateObject().get("$set", Document.class))
+                .containsOnly(Map.entry("email", "plarson1980@gmail.com"));
+    }
+
+    @Test
+    @DisplayName("Given one customer without address when merge customer then apply the patch in memory")
+    void givenOneCustomerWithoutAddress_whenMergeCustomer_thenApplyThePatchInMemory() {
+        var customer = new Customer();
+        customer.setFirstName("Peter");
+
+        customerPatchMapper.mergeCustomer(Map.of(
+                "email", "PLarson1980@Gmail.com",
+                "address", Map.of("city", "Miami")), customer);
+
+        assertThat(customer.getFirstName()).isEqualTo("Peter");
+        assertThat(customer.getEmail()).isEqualTo("plarson1980@gmail.com");
+        assertThat(customer.getAddress().getCity()).isEqualTo("Miami");
+        assertThat(customer.getAddress().getStreet()).isNull();
+    }
+
+    @Test
+    @DisplayName("Given one customer patch with null address when map to update then unset the address")
+    void givenOneCustomerPatchWithNullAddress_whenMapToUpdate_thenUnsetTheAddress() {
+        var customerPatch = new HashMap<String, Object>();
+        customerPatch.put("address", null);
+
+        var update = customerPatchMapper.mapToUpdate(customerPatch, Locale.ENGLISH);
+
+        assertThat(update.getUpdateObject().get("$unset", Document.class))
+                .containsOnlyKeys("address");
+    }
+
+    @Test
+    @DisplayName("Given one customer patch removing a required field when map to update then return constraint violation")
+    void givenOneCustomerPatchRemovingARequiredField_whenMapToUpdate_thenReturnConstraintViolation() {
+        var customerPatch = new HashMap<String, Object>();
+        customerPatch.put("firstName", null);
+        customerPatch.put("phoneNumber", "962329330");
+
+        assertThatThrownBy(() -> customerPatchMapper.mapToUpdate(customerPatch, Locale.ENGLISH))
+                .isInstanceOfSatisfying(ConstraintViolationException.class, ex ->
+                        assertThat(ex.getConstraintViolations()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Given one customer patch with unknown field when map to update then return business error")
+    void givenOneCustomerPatchWithUnknownField_whenMapToUpdate_thenReturnBusinessError() {
+        when(messageSource.getMessage(eq(CUSTOMER_PATCH_UNKNOWN_FIELD_KEY), any(), eq(Locale.of("es"))))
+                .thenReturn("El campo address.planet no se puede modificar");
+
+        assertThatThrownBy(() -> customerPatchMapper.mapToUpdate(
+                Map.of("address", Map.of("planet", "Mars")), Locale.of("es")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("El campo address.planet no se puede modificar");
+    }
+
+    @Test
+    @DisplayName("Given one customer patch with non text value when map to update then return business error")
+    void givenOneCustomerPatchWithNonTextValue_whenMapToUpdate_thenReturnBusinessError() {
+        when(messageSource.getMessage(eq(CUSTOMER_PATCH_INVALID_VALUE_KEY), any(), any(Locale.class)))
+                .thenReturn("Field email has an invalid value");
+
+        assertThatThrownBy(() -> customerPatchMapper.mapToUpdate(Map.of("email", 42), Locale.ENGLISH))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Field email has an invalid value");
+    }
+
+    private static List<Document> pipeline(UpdateDefinition update) {
+        return ((AggregationUpdate) update).toPipeline(Aggregation.DEFAULT_CONTEXT);
+    }
+
+}
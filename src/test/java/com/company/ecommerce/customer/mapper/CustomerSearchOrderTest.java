@@ -0,0 +1,83 @@
+package com.company.ecommerce.customer.mapper;
+
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
+import com.company.ecommerce.customer.entity.Address;
+import com.company.ecommerce.customer.entity.Customer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerSearchOrderTest {
+
+    @Test
+    @DisplayName("Given last name filter when sort fields then order by last name, first name and id")
+    void givenLastNameFilter_whenSortFields_thenOrderByLastNameFirstNameAndId() {
+        var criteria = new CustomerSearchCriteria("Pe", "La", null, null, null, "USA");
+
+        assertThat(CustomerSearchOrder.sortFields(criteria))
+                .containsExactly("lastName", "firstName", "id");
+    }
+
+    @Test
+    @DisplayName("Given first name filter when sort fields then order by first name and id")
+    void givenFirstNameFilter_whenSortFields_thenOrderByFirstNameAndId() {
+        var criteria = new CustomerSearchCriteria("Pe", null, null, null, null, "USA");
+
+        assertThat(CustomerSearchOrder.sortFields(criteria))
+                .containsExactly("firstName", "id");
+    }
+
+    @Test
+    @DisplayName("Given country filter when sort fields then order by state, city and id")
+    void givenCountryFilter_whenSortFields_thenOrderByStateCityAndId() {
+        var criteria = new CustomerSearchCriteria(null, null, null, null, null, "USA");
+
+        assertThat(CustomerSearchOrder.sortFields(criteria))
+                .containsExactly("address.state", "address.city", "id");
+    }
+
+    @Test
+    @DisplayName("Given country and state filter when sort fields then order by state, city and id")
+    void givenCountryAndStateFilter_whenSortFields_thenOrderByStateCityAndId() {
+        var criteria = new CustomerSearchCriteria(null, null, null, null, "Florida", "USA");
+
+        assertThat(CustomerSearchOrder.sortFields(criteria))
+                .containsExactly("address.state", "address.city", "id");
+    }
+
+    @Test
+    @DisplayName("Given country, state and city filter when sort fields then order by state, city and id")
+    void givenCountryStateAndCityFilter_whenSortFields_thenOrderByStateCityAndId() {
+        var criteria = new CustomerSearchCriteria(null, null, null, "Miami", "Florida", "USA");
+
+        assertThat(CustomerSearchOrder.sortFields(criteria))
+                .containsExactly("address.state", "address.city", "id");
+    }
+
+    @Test
+    @DisplayName("Given city or email filter when sort fields then order by id")
+    void givenCityOrEmailFilter_whenSortFields_thenOrderById() {
+        assertThat(CustomerSearchOrder.sortFields(new CustomerSearchCriteria(null, null, null, "Miami", null, null)))
+                .containsExactly("id");
+        assertThat(CustomerSearchOrder.sortFields(new CustomerSearchCriteria(null, null, "plarson@gmail.com", null, null, null)))
+                .containsExactly("id");
+    }
+
+    @Test
+    @DisplayName("Given country filter when to cursor then round trip state, city and id")
+    void givenCountryFilter_whenToCursor_thenRoundTripStateCityAndId() {
+        var criteria = new CustomerSearchCriteria(null, null, null, null, null, "USA");
+        var customer = new Customer();
+        customer.setId("66aeee840271a2600f91d799");
+        customer.setAddress(new Address("218 Newbury Street", "Miami", "Florida", "16077", "USA"));
+
+        var cursor = CustomerSearchOrder.toCursor(criteria, customer);
+
+        assertThat(CustomerSearchOrder.parseCursor(criteria, cursor))
+                .contains(List.of("Florida", "Miami", "66aeee840271a2600f91d799"));
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.company.ecommerce.customer.migration;
+
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.repository.CustomerRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerEmailMigrationTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @InjectMocks
+    private CustomerEmailMigration customerEmailMigration;
+
+    @Test
+    @DisplayName("Given customers with mixed-case emails when run then store normalized emails and skip conflicts")
+    void givenCustomersWithMixedCaseEmails_whenRun_thenStoreNormalizedEmailsAndSkipConflicts() {
+        var customer1 = customer("66aeee840271a2600f91d799", " PLarson@Gmail.com", 2);
+        var customer2 = customer("66aeee840271a2600f91d79a", "RBrown@gmail.com", 0);
+        when(customerRepository.streamWithDenormalizedEmail()).thenReturn(Stream.of(customer1, customer2));
+        when(customerRepository.findAndUpdateById(eq(customer1.getId()), eq(2), any(Update.class)))
+                .thenReturn(Optional.of(customer1));
+        when(customerRepository.findAndUpdateById(eq(customer2.getId()), eq(0), any(Update.class)))
+                .thenThrow(new DuplicateKeyException("uix_email"));
+
+        customerEmailMigration.run(new DefaultApplicationArguments());
+
+        var update = ArgumentCaptor.forClass(Update.class);
+        verify(customerRepository).findAndUpdateById(eq(customer1.getId()), eq(2), update.capture());
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class).getString("email"))
+                .isEqualTo("plarson@gmail.com");
+        verify(customerRepository).findAndUpdateById(eq(customer2.getId()), eq(0), any(Update.class));
+    }
+
+    private static Customer customer(String id, String email, Integer version) {
+        var customer = new Customer();
+        customer.setId(id);
+        customer.setEmail(email);
+        customer.setVersion(version);
+        return customer;
+    }
+
+}
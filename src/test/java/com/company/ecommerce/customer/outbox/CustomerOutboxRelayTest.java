@@ -0,0 +1,81 @@
+package com.company.ecommerce.customer.outbox;
+
+import com.company.ecommerce.customer.dto.CustomerChangeType;
+import com.company.ecommerce.customer.entity.OutboxEvent;
+import com.company.ecommerce.customer.properties.CustomerOutboxProperties;
+import com.company.ecommerce.customer.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerOutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private InMemoryCustomerEventPublisher customerEventPublisher;
+    private CustomerOutboxRelay customerOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        customerEventPublisher = new InMemoryCustomerEventPublisher(100);
+        customerOutboxRelay = new CustomerOutboxRelay(outboxEventRepository, customerEventPublisher,
+                new CustomerOutboxProperties(true, 2, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(30), 100));
+    }
+
+    @Test
+    @DisplayName("Given pending outbox events when relay batch then publish them in order and remove them")
+    void givenPendingOutboxEvents_whenRelayBatch_thenPublishThemInOrderAndRemoveThem() {
+        when(outboxEventRepository.claimBatch(anyString(), any(Instant.class), any(Instant.class), eq(2))).thenReturn(List.of(
+                new OutboxEvent("66f1a2b3c4d5e6f708192a01", CustomerChangeType.CREATED, "66aeee840271a2600f91d799",
+                        0, null, Instant.now(), null, null),
+                new OutboxEvent("66f1a2b3c4d5e6f708192a02", CustomerChangeType.DELETED, "66aeee840271a2600f91d799",
+                        1, null, Instant.now(), null, null)));
+
+        var relayedEvents = customerOutboxRelay.relayBatch();
+
+        assertThat(relayedEvents).isEqualTo(2);
+        assertThat(customerEventPublisher.events())
+                .extracting("id", "type", "customerVersion")
+                .containsExactly(
+                        tuple("66f1a2b3c4d5e6f708192a01", CustomerChangeType.CREATED, 0),
+                        tuple("66f1a2b3c4d5e6f708192a02", CustomerChangeType.DELETED, 1));
+        verify(outboxEventRepository).deleteAllById(List.of("66f1a2b3c4d5e6f708192a01", "66f1a2b3c4d5e6f708192a02"));
+    }
+
+    @Test
+    @DisplayName("Given publisher fails when relay batch then keep the outbox events for the next attempt")
+    void givenPublisherFails_whenRelayBatch_thenKeepTheOutboxEventsForTheNextAttempt() {
+        var failingRelay = new CustomerOutboxRelay(outboxEventRepository, events -> {
+            throw new IllegalStateException("broker unavailable");
+        }, new CustomerOutboxProperties(true, 2, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(30), 100));
+        when(outboxEventRepository.claimBatch(anyString(), any(Instant.class), any(Instant.class), eq(2))).thenReturn(List.of(
+                new OutboxEvent("66f1a2b3c4d5e6f708192a01", CustomerChangeType.CREATED, "66aeee840271a2600f91d799",
+                        0, null, Instant.now(), null, null)));
+
+        assertThatThrownBy(failingRelay::relayBatch)
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(outboxEventRepository, never()).deleteAllById(anyList());
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.company.ecommerce.customer.repository;
 
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
 import com.company.ecommerce.customer.entity.Address;
 import com.company.ecommerce.customer.entity.Customer;
 import org.junit.jupiter.api.AfterEach;
@@ -9,7 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -19,6 +22,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -117,6 +121,27 @@ class CustomerRepositoryTest {
                 .hasSize(2);
     }
 
+    @Test
+    @DisplayName("Given two customers in database when find all by order by id with limit then return first page")
+    void givenTwoCustomersInDatabase_whenFindAllByOrderByIdAscWithLimit_thenReturnFirstPage() {
+        List<Customer> foundCustomers = customerRepository.findAllByOrderByIdAsc(Limit.of(1));
+
+        assertThat(foundCustomers)
+                .hasSize(1)
+                .containsExactly(customer1);
+    }
+
+    @Test
+    @DisplayName("Given two customers in database when find by id greater than cursor then return next page")
+    void givenTwoCustomersInDatabase_whenFindByIdGreaterThanCursor_thenReturnNextPage() {
+        List<Customer> foundCustomers = customerRepository.findByIdGreaterThanOrderByIdAsc(
+                customer1.getId(), Limit.of(10));
+
+        assertThat(foundCustomers)
+                .hasSize(1)
+                .containsExactly(customer2);
+    }
+
     @Test
     @DisplayName("Given one customer in database when find by id then return one customer")
     void givenOneCustomerInDatabase_whenFindById_thenReturnOneCustomer() {
@@ -129,6 +154,59 @@ class CustomerRepositoryTest {
                 .isEqualTo(customer1);
     }
 
+    @Test
+    @DisplayName("Given two customers in database when search by last name prefix and country then return matching customer")
+    void givenTwoCustomersInDatabase_whenSearchByLastNamePrefixAndCountry_thenReturnMatchingCustomer() {
+        List<Customer> foundCustomers = customerRepository.search(
+                new CustomerSearchCriteria(null, "Bro", null, null, null, "USA"), List.of(), Limit.of(10));
+
+        assertThat(foundCustomers)
+                .hasSize(1)
+                .containsExactly(customer2);
+    }
+
+    @Test
+    @DisplayName("Given two customers in database when search by country after cursor then return next page")
+    void givenTwoCustomersInDatabase_whenSearchByCountryAfterCursor_thenReturnNextPage() {
+        List<Customer> foundCustomers = customerRepository.search(
+                new CustomerSearchCriteria(null, null, null, null, null, "USA"), List.of(customer1.getId()), Limit.of(10));
+
+        assertThat(foundCustomers)
+                .hasSize(1)
+                .containsExactly(customer2);
+    }
+
+    @Test
+    @DisplayName("Given customers sharing a last name when search by last name prefix after cursor then return next page in name order")
+    void givenCustomersSharingALastName_whenSearchByLastNamePrefixAfterCursor_thenReturnNextPageInNameOrder() {
+        customer3.setLastName("Larson");
+        mongoTemplate.save(customer3);
+
+        List<Customer> foundCustomers = customerRepository.search(
+                new CustomerSearchCriteria(null, "Lar", null, null, null, null),
+                List.of("Larson", "Nelson", customer3.getId()), Limit.of(10));
+
+        assertThat(foundCustomers)
+                .hasSize(1)
+                .containsExactly(customer1);
+    }
+
+    @Test
+    @DisplayName("Given one customer in database when find projected by id then return only the selected fields")
+    void givenOneCustomerInDatabase_whenFindProjectedById_thenReturnOnlyTheSelectedFields() {
+        Optional<Customer> foundCustomerOptional = customerRepository.findProjectedById(
+                customer1.getId(), Set.of("id", "email"));
+
+        assertThat(foundCustomerOptional)
+                .isPresent()
+                .get()
+                .satisfies(customer -> {
+                    assertThat(customer.getEmail()).isEqualTo(customer1.getEmail());
+                    assertThat(customer.getFirstName()).isNull();
+                    assertThat(customer.getAddress()).isNull();
+                });
+    }
+
     @Test
     @DisplayName("Given one new customer when save then store one new customer")
     void givenOneNewCustomer_whenSave_thenStoreOneNewCustomer() {
@@ -139,6 +217,24 @@ class CustomerRepositoryTest {
                 .isEqualTo(customer3);
     }
 
+    @Test
+    @DisplayName("Given one new and one duplicated customer when insert unordered then store new and report duplicated")
+    void givenOneNewAndOneDuplicatedCustomer_whenInsertUnordered_thenStoreNewAndReportDuplicated() {
+        customer2.setId(null);
+        customer3.setId(null);
+
+        var writeErrors = customerRepository.insertUnordered(List.of(customer2, customer3));
+
+        assertThat(writeErrors)
+                .hasSize(1)
+                .first()
+                .satisfies(writeError -> assertThat(writeError.getIndex()).isZero());
+        assertThat(customerRepository.findById(customer3.getId()))
+                .isPresent()
+                .get()
+                .satisfies(customer -> assertThat(customer.getVersion()).isZero());
+    }
+
     @Test
     @DisplayName("Given one customer in database to edit when save then store customer modified")
     void givenOneCustomerInDatabaseToEdit_whenSave_thenStoreCustomerModified() {
@@ -152,6 +248,58 @@ class CustomerRepositoryTest {
                 .isEqualTo(customer2.getEmail());
     }
 
+    @Test
+    @DisplayName("Given one customer in database when find and update by id then return previous customer and increment version")
+    void givenOneCustomerInDatabase_whenFindAndUpdateById_thenReturnPreviousCustomerAndIncrementVersion() {
+        Optional<Customer> previousCustomerOptional = customerRepository.findAndUpdateById(
+                customer2.getId(), null, new Update().set("email", "rbrown1980@gmail.com"));
+
+        assertThat(previousCustomerOptional)
+                .isPresent();
+        assertThat(previousCustomerOptional.get().getEmail())
+                .isEqualTo(customer2.getEmail());
+
+        Customer updatedCustomer = customerRepository.findById(customer2.getId()).orElseThrow();
+        assertThat(updatedCustomer.getEmail())
+                .isEqualTo("rbrown1980@gmail.com");
+        assertThat(updatedCustomer.getVersion())
+                .isEqualTo(customer2.getVersion() + 1);
+        assertThat(updatedCustomer.getFirstName())
+                .isEqualTo(customer2.getFirstName());
+    }
+
+    @Test
+    @DisplayName("Given stale version when find and update by id then return empty")
+    void givenStaleVersion_whenFindAndUpdateById_thenReturnEmpty() {
+        Optional<Customer> updatedCustomerOptional = customerRepository.findAndUpdateById(
+                customer2.getId(), customer2.getVersion() + 1, new Update().set("email", "rbrown1980@gmail.com"));
+
+        assertThat(updatedCustomerOptional)
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given one customer is not in database when find and update by id then return empty")
+    void givenOneCustomerIsNotInDatabase_whenFindAndUpdateById_thenReturnEmpty() {
+        Optional<Customer> updatedCustomerOptional = customerRepository.findAndUpdateById(
+                customer3.getId(), null, new Update().set("email", "npatrick1980@gmail.com"));
+
+        assertThat(updatedCustomerOptional)
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given one customer in database when find and delete by id then return the deleted customer once")
+    void givenOneCustomerInDatabase_whenFindAndDeleteById_thenReturnTheDeletedCustomerOnce() {
+        assertThat(customerRepository.findAndDeleteById(customer2.getId(), customer2.getVersion() + 1))
+                .isEmpty();
+        assertThat(customerRepository.findAndDeleteById(customer2.getId(), customer2.getVersion()))
+                .map(Customer::getEmail)
+                .contains(customer2.getEmail());
+        assertThat(customerRepository.findAndDeleteById(customer2.getId(), null))
+                .isEmpty();
+    }
+
     @Test
     @DisplayName("Given one customer in database when delete by id then remove customer")
     void givenOneCustomerInDatabase_whenDeleteById_thenDeleteCustomerRecordInDatabase() {
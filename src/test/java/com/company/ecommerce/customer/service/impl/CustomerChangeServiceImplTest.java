@@ -0,0 +1,93 @@
+package com.company.ecommerce.customer.service.impl;
+
+import com.company.ecommerce.customer.changestream.CustomerChangeBroadcaster;
+import com.company.ecommerce.customer.changestream.CustomerChangeStreams;
+import com.company.ecommerce.customer.exception.BusinessException;
+import com.company.ecommerce.customer.exception.ServiceUnavailableException;
+import com.company.ecommerce.customer.properties.CustomerChangeStreamProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_CHANGES_CATCH_UP_LIMIT_REACHED_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_CHANGES_INVALID_RESUME_TOKEN_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerChangeServiceImplTest {
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private CustomerChangeStreams changeStreams;
+
+    @Mock
+    private CustomerChangeBroadcaster changeBroadcaster;
+
+    @Spy
+    private CustomerChangeStreamProperties changeStreamProperties = new CustomerChangeStreamProperties(true, 1000,
+            256, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMinutes(30), 32,
+            Duration.ofSeconds(5));
+
+    @InjectMocks
+    private CustomerChangeServiceImpl customerChangeService;
+
+    @Test
+    @DisplayName("Given resume token still replayed when subscribe to changes then share the change stream")
+    void givenResumeTokenStillReplayed_whenSubscribeToChanges_thenShareTheChangeStream() {
+        when(changeBroadcaster.subscribe(any(SseEmitter.class), eq("8266F1A2B3"))).thenReturn(true);
+
+        var emitter = customerChangeService.subscribeToChanges("8266F1A2B3");
+
+        assertThat(emitter).isNotNull();
+        verify(changeStreams, never()).open(anyString());
+    }
+
+    @Test
+    @DisplayName("Given malformed resume token when subscribe to changes then return invalid resume token")
+    void givenMalformedResumeToken_whenSubscribeToChanges_thenReturnInvalidResumeToken() {
+        when(messageSource.getMessage(eq(CUSTOMER_CHANGES_INVALID_RESUME_TOKEN_KEY), any(), any(Locale.class)))
+                .thenReturn("Resume token {\"_data\"} is not valid");
+
+        assertThatThrownBy(() -> customerChangeService.subscribeToChanges("{\"_data\"}"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("is not valid");
+
+        verify(changeBroadcaster, never()).subscribe(any(SseEmitter.class), any());
+    }
+
+    @Test
+    @DisplayName("Given catch up limit reached when subscribe to changes then return service unavailable")
+    void givenCatchUpLimitReached_whenSubscribeToChanges_thenReturnServiceUnavailable() {
+        var limitedChangeService = new CustomerChangeServiceImpl(messageSource, changeStreams, changeBroadcaster,
+                new CustomerChangeStreamProperties(true, 1000, 256, Duration.ofSeconds(1), Duration.ofSeconds(1),
+                        Duration.ofSeconds(5), Duration.ofMinutes(30), 0, Duration.ofSeconds(10)));
+        when(changeBroadcaster.subscribe(any(SseEmitter.class), eq("8266F1A2B3"))).thenReturn(false);
+        when(messageSource.getMessage(eq(CUSTOMER_CHANGES_CATCH_UP_LIMIT_REACHED_KEY), any(), any(Locale.class)))
+                .thenReturn("Too many subscriptions are catching up, retry in 10 seconds");
+
+        assertThatThrownBy(() -> limitedChangeService.subscribeToChanges("8266F1A2B3"))
+                .isInstanceOfSatisfying(ServiceUnavailableException.class, ex ->
+                        assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(10)));
+
+        verify(changeStreams, never()).open(anyString());
+    }
+
+}
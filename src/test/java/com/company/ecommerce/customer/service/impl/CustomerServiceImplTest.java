@@ -1,13 +1,30 @@
 package com.company.ecommerce.customer.service.impl;
 
+import com.company.ecommerce.customer.cache.CustomerCache;
+import com.company.ecommerce.customer.cache.CustomerEmailCache;
 import com.company.ecommerce.customer.dto.AddressRequest;
 import com.company.ecommerce.customer.dto.AddressResponse;
+import com.company.ecommerce.customer.dto.BulkCustomerItemResponse;
+import com.company.ecommerce.customer.dto.CustomerChangeType;
+import com.company.ecommerce.customer.dto.CustomerEmailResponse;
 import com.company.ecommerce.customer.dto.CustomerRequest;
 import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.dto.CustomerSearchCriteria;
 import com.company.ecommerce.customer.entity.Address;
 import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.exception.BusinessException;
+import com.company.ecommerce.customer.exception.PreconditionFailedException;
 import com.company.ecommerce.customer.exception.ResourceNotFoundException;
 import com.company.ecommerce.customer.mapper.CustomerMapper;
+import com.company.ecommerce.customer.mapper.CustomerPatchMapper;
+import com.company.ecommerce.customer.outbox.CustomerOutbox;
+import com.company.ecommerce.customer.properties.CustomerBulkProperties;
+import com.company.ecommerce.customer.properties.CustomerCacheProperties;
+import com.company.ecommerce.customer.properties.CustomerEmailCacheProperties;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.bson.BsonDocument;
 import com.company.ecommerce.customer.repository.CustomerRepository;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,20 +36,48 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.MessageSource;
-
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_BULK_MAX_ITEMS_EXCEEDED_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_EMAIL_NOT_FOUND_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_FIELDS_UNKNOWN_FIELD_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_LOOKUP_MAX_ITEMS_EXCEEDED_KEY;
 import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_NOT_FOUND_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_SEARCH_CRITERIA_REQUIRED_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_SEARCH_INVALID_CURSOR_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_SEARCH_STATE_WITHOUT_COUNTRY_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_VERSION_MISMATCH_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.DUPLICATE_KEY_ERROR_CODE;
+import static com.company.ecommerce.customer.constant.CommonConstant.MAX_LOOKUP_ITEMS;
+import static com.company.ecommerce.customer.dto.BulkItemStatus.CONFLICT;
+import static com.company.ecommerce.customer.dto.BulkItemStatus.CREATED;
+import static com.company.ecommerce.customer.dto.BulkItemStatus.INVALID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,6 +93,31 @@ class CustomerServiceImplTest {
     @Spy
     private static CustomerMapper customerMapper;
 
+    @Mock
+    private CustomerPatchMapper customerPatchMapper;
+
+    @Spy
+    private CustomerCache customerCache = new CustomerCache(new CustomerCacheProperties(100, Duration.ofMinutes(1)));
+
+    @Spy
+    private CustomerEmailCache customerEmailCache = new CustomerEmailCache(
+            new CustomerEmailCacheProperties(100, Duration.ofMinutes(1)));
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private CustomerBulkProperties bulkProperties = new CustomerBulkProperties(1, 3);
+
+    @Mock
+    private CustomerOutbox customerOutbox;
+
+    @Mock
+    private ObjectProvider<TransactionOperations> transactionOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private CustomerServiceImpl customerService;
 
@@ -137,15 +207,125 @@ class CustomerServiceImplTest {
     @Test
     @DisplayName("Given two customers in database when find all customers then return the customers")
     void givenTwoCustomersInDatabase_whenFindAllCustomers_thenReturnTheCustomers() {
-        when(customerRepository.findAll()).thenReturn(customers);
+        when(customerRepository.findAllByOrderByIdAsc(Limit.of(51))).thenReturn(customers);
 
-        var customerResponses = customerService.findAllCustomers();
+        var customerPageResponse = customerService.findAllCustomers(null, 50);
 
-        assertThat(customerResponses)
+        assertThat(customerPageResponse.customers())
                 .isNotEmpty()
                 .hasSize(2);
+        assertThat(customerPageResponse.nextCursor())
+                .isNull();
+
+        verify(customerRepository).findAllByOrderByIdAsc(any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Given a cursor and more customers than page size when find all customers then return next cursor")
+    void givenACursorAndMoreCustomersThanPageSize_whenFindAllCustomers_thenReturnNextCursor() {
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc("66aeee840271a2600f91d798", Limit.of(2)))
+                .thenReturn(customers);
+
+        var customerPageResponse = customerService.findAllCustomers("66aeee840271a2600f91d798", 1);
+
+        assertThat(customerPageResponse.customers())
+                .hasSize(1)
+                .containsExactly(customerResponseExpected);
+        assertThat(customerPageResponse.nextCursor())
+                .isEqualTo(customer1.getId());
 
-        verify(customerRepository).findAll();
+        verify(customerRepository).findByIdGreaterThanOrderByIdAsc(anyString(), any(Limit.class));
+        verify(customerRepository, never()).findAllByOrderByIdAsc(any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Given a last name prefix and more customers than page size when search customers then return next cursor")
+    void givenALastNamePrefixAndMoreCustomersThanPageSize_whenSearchCustomers_thenReturnNextCursor() {
+        var criteria = new CustomerSearchCriteria(null, "Lar", null, null, null, "USA");
+        when(customerRepository.search(criteria, List.of(), Limit.of(2))).thenReturn(customers);
+
+        var customerPageResponse = customerService.searchCustomers(criteria, null, 1);
+
+        assertThat(customerPageResponse.customers())
+                .hasSize(1)
+                .containsExactly(customerResponseExpected);
+        assertThat(customerPageResponse.nextCursor())
+                .isEqualTo("TGFyc29u.UGV0ZXI.66aeee840271a2600f91d799");
+
+        verify(customerRepository).search(criteria, List.of(), Limit.of(2));
+    }
+
+    @Test
+    @DisplayName("Given a last name cursor when search customers then search after its last name, first name and id")
+    void givenALastNameCursor_whenSearchCustomers_thenSearchAfterItsLastNameFirstNameAndId() {
+        var criteria = new CustomerSearchCriteria(null, "Lar", null, null, null, "USA");
+        when(customerRepository.search(criteria, List.of("Larson", "Peter", customer1.getId()), Limit.of(2)))
+                .thenReturn(List.of(customer2));
+
+        var customerPageResponse = customerService.searchCustomers(
+                criteria, "TGFyc29u.UGV0ZXI.66aeee840271a2600f91d799", 1);
+
+        assertThat(customerPageResponse.customers())
+                .hasSize(1);
+        assertThat(customerPageResponse.nextCursor())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("Given a cursor of other filters when search customers then return business error")
+    void givenACursorOfOtherFilters_whenSearchCustomers_thenReturnBusinessError() {
+        when(messageSource.getMessage(eq(CUSTOMER_SEARCH_INVALID_CURSOR_KEY), any(), any(Locale.class)))
+                .thenReturn("Cursor 66aeee840271a2600f91d799 is not valid for the given search filters");
+
+        assertThatThrownBy(() -> customerService.searchCustomers(
+                new CustomerSearchCriteria(null, "Lar", null, null, null, null), customer1.getId(), 50))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("is not valid for the given search filters");
+
+        verify(customerRepository, never()).search(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Given a state without country when search customers then return business error")
+    void givenAStateWithoutCountry_whenSearchCustomers_thenReturnBusinessError() {
+        when(messageSource.getMessage(eq(CUSTOMER_SEARCH_STATE_WITHOUT_COUNTRY_KEY), any(), any(Locale.class)))
+                .thenReturn("State Oregon can only be searched together with a country");
+
+        assertThatThrownBy(() -> customerService.searchCustomers(
+                new CustomerSearchCriteria(null, null, null, null, "Oregon", null), null, 50))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("can only be searched together with a country");
+
+        verify(customerRepository, never()).search(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Given no search filters when search customers then return business error")
+    void givenNoSearchFilters_whenSearchCustomers_thenReturnBusinessError() {
+        when(messageSource.getMessage(eq(CUSTOMER_SEARCH_CRITERIA_REQUIRED_KEY), any(), any(Locale.class)))
+                .thenReturn("At least one search filter is required");
+
+        assertThatThrownBy(() -> customerService.searchCustomers(
+                new CustomerSearchCriteria(null, " ", null, null, null, null), null, 50))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("At least one search filter is required");
+
+        verify(customerRepository, never()).search(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Given two customers in database when export customers then stream the customers")
+    void givenTwoCustomersInDatabase_whenExportCustomers_thenStreamTheCustomers() {
+        when(customerRepository.streamAllByOrderByIdAsc()).thenReturn(customers.stream());
+
+        try (var customerResponses = customerService.exportCustomers()) {
+            assertThat(customerResponses)
+                    .hasSize(2)
+                    .first()
+                    .isEqualTo(customerResponseExpected);
+        }
+
+        verify(customerRepository).streamAllByOrderByIdAsc();
     }
 
     @Test
@@ -162,6 +342,34 @@ class CustomerServiceImplTest {
         verify(customerRepository).findById(anyString());
     }
 
+    @Test
+    @DisplayName("Given one customer found before when find customer by id then return customer from cache")
+    void givenOneCustomerFoundBefore_whenFindCustomerById_thenReturnCustomerFromCache() {
+        when(customerRepository.findById(anyString())).thenReturn(Optional.of(customer1));
+
+        customerService.findCustomerById("66aeee840271a2600f91d799");
+        var customerResponseDto = customerService.findCustomerById("66aeee840271a2600f91d799");
+
+        assertThat(customerResponseDto)
+                .isEqualTo(customerResponseExpected);
+
+        verify(customerRepository, times(1)).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Given one customer deleted after being found when find customer by id then read database again")
+    void givenOneCustomerDeletedAfterBeingFound_whenFindCustomerById_thenReadDatabaseAgain() {
+        when(customerRepository.findById(anyString())).thenReturn(Optional.of(customer1));
+        when(customerRepository.findAndDeleteById(customer1.getId(), null)).thenReturn(Optional.of(customer1));
+
+        customerService.findCustomerById(customer1.getId());
+        customerService.deleteCustomerById(customer1.getId());
+        customerService.findCustomerById(customer1.getId());
+
+        verify(customerCache).evict(customer1.getId());
+        verify(customerRepository, times(2)).findById(anyString());
+    }
+
     @Test
     @DisplayName("Given one customer is not in database when find customer by id then return customer not found")
     void givenOneCustomerIsNotInDatabase_whenFindCustomerById_thenReturnCustomerNotFound() {
@@ -177,6 +385,160 @@ class CustomerServiceImplTest {
         verify(messageSource).getMessage(anyString(), any(), any(Locale.class));
     }
 
+    @Test
+    @DisplayName("Given selected fields when find all customers then project the fields in the query")
+    void givenSelectedFields_whenFindAllCustomers_thenProjectTheFieldsInTheQuery() {
+        when(customerRepository.findProjectedPage(null, Set.of("id", "email"), Limit.of(51))).thenReturn(customers);
+
+        var customerPageResponse = customerService.findAllCustomers(null, 50, "email");
+
+        assertThat(customerPageResponse.customers())
+                .hasSize(2);
+
+        verify(customerRepository, never()).findAllByOrderByIdAsc(any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Given selected fields and customer not cached when find customer by id then project the fields in the query")
+    void givenSelectedFieldsAndCustomerNotCached_whenFindCustomerById_thenProjectTheFieldsInTheQuery() {
+        var projectedCustomer = new Customer();
+        projectedCustomer.setId(customer1.getId());
+        projectedCustomer.setFirstName(customer1.getFirstName());
+        projectedCustomer.setEmail(customer1.getEmail());
+        when(customerRepository.findProjectedById(customer1.getId(), Set.of("id", "firstName", "email")))
+                .thenReturn(Optional.of(projectedCustomer));
+
+        var customerResponse = customerService.findCustomerById(customer1.getId(), "firstName, email");
+
+        assertThat(customerResponse)
+                .isEqualTo(new CustomerResponse(customer1.getId(), "Peter", null, "plarson@gmail.com", null, null));
+
+        verify(customerRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Given selected fields and customer cached when find customer by id then select the fields from the cache")
+    void givenSelectedFieldsAndCustomerCached_whenFindCustomerById_thenSelectTheFieldsFromTheCache() {
+        customerCache.put(customer1);
+
+        var customerResponse = customerService.findCustomerById(customer1.getId(), "lastName,address");
+
+        assertThat(customerResponse)
+                .isEqualTo(new CustomerResponse(customer1.getId(), null, "Larson", null, null, addressResponse));
+
+        verify(customerRepository, never()).findProjectedById(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Given one unknown field when find customer by id then return business error")
+    void givenOneUnknownField_whenFindCustomerById_thenReturnBusinessError() {
+        when(messageSource.getMessage(eq(CUSTOMER_FIELDS_UNKNOWN_FIELD_KEY), any(), any(Locale.class)))
+                .thenReturn("Field version can not be selected");
+
+        assertThatThrownBy(() -> customerService.findCustomerById(customer1.getId(), "firstName,version"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Field version can not be selected");
+
+        verify(customerRepository, never()).findProjectedById(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Given one cached and one stored customer when find customers by ids then query only the missing ids")
+    void givenOneCachedAndOneStoredCustomer_whenFindCustomersByIds_thenQueryOnlyTheMissingIds() {
+        customerCache.put(customer1);
+        when(customerRepository.findAllById(Set.of(customer2.getId(), "66aeee845291a2632f91d95a")))
+                .thenReturn(List.of(customer2));
+
+        var customerBatchResponse = customerService.findCustomersByIds(List.of(
+                customer2.getId(), "66aeee845291a2632f91d95a", customer1.getId(), customer2.getId()));
+
+        assertThat(customerBatchResponse.customers())
+                .extracting(CustomerResponse::id)
+                .containsExactly(customer2.getId(), customer1.getId());
+        assertThat(customerBatchResponse.missingIds())
+                .containsExactly("66aeee845291a2632f91d95a");
+
+        verify(customerRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Given more ids than allowed when find customers by ids then return business error")
+    void givenMoreIdsThanAllowed_whenFindCustomersByIds_thenReturnBusinessError() {
+        when(messageSource.getMessage(eq(CUSTOMER_LOOKUP_MAX_ITEMS_EXCEEDED_KEY), any(), any(Locale.class)))
+                .thenReturn("Lookup request exceeds the limit of 500 items");
+
+        assertThatThrownBy(() -> customerService.findCustomersByIds(
+                Collections.nCopies(MAX_LOOKUP_ITEMS + 1, customer1.getId())))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Lookup request exceeds the limit of 500 items");
+
+        verify(customerRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Given one customer in database when find customer by mixed case email then return customer")
+    void givenOneCustomerInDatabase_whenFindCustomerByMixedCaseEmail_thenReturnCustomer() {
+        when(customerRepository.findIdByEmail("plarson@gmail.com")).thenReturn(Optional.of(customer1.getId()));
+        when(customerRepository.findById(customer1.getId())).thenReturn(Optional.of(customer1));
+
+        var customerResponse = customerService.findCustomerByEmail(" PLarson@Gmail.com");
+        var cachedCustomerResponse = customerService.findCustomerByEmail("plarson@gmail.com");
+
+        assertThat(customerResponse)
+                .isEqualTo(customerResponseExpected)
+                .isEqualTo(cachedCustomerResponse);
+
+        verify(customerRepository).findIdByEmail("plarson@gmail.com");
+        verify(customerRepository).findById(customer1.getId());
+    }
+
+    @Test
+    @DisplayName("Given one cached email whose customer changed email when find customer by email then resolve it again")
+    void givenOneCachedEmailWhoseCustomerChangedEmail_whenFindCustomerByEmail_thenResolveItAgain() {
+        customerEmailCache.get("rbrown@gmail.com", email -> Optional.of(customer1.getId()));
+        customerCache.put(customer1);
+        when(customerRepository.findIdByEmail("rbrown@gmail.com")).thenReturn(Optional.of(customer2.getId()));
+        when(customerRepository.findById(customer2.getId())).thenReturn(Optional.of(customer2));
+
+        var customerResponse = customerService.findCustomerByEmail("rbrown@gmail.com");
+
+        assertThat(customerResponse.id())
+                .isEqualTo(customer2.getId());
+
+        verify(customerRepository).findIdByEmail("rbrown@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Given one customer is not in database when find customer by email then return not found error")
+    void givenOneCustomerIsNotInDatabase_whenFindCustomerByEmail_thenReturnNotFoundError() {
+        when(customerRepository.findIdByEmail("npatrick@gmail.com")).thenReturn(Optional.empty());
+        when(messageSource.getMessage(eq(CUSTOMER_EMAIL_NOT_FOUND_KEY), any(), any(Locale.class)))
+                .thenReturn("Customer with email npatrick@gmail.com not found");
+
+        assertThatThrownBy(() -> customerService.findCustomerByEmail("npatrick@gmail.com"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Customer with email npatrick@gmail.com not found");
+
+        verify(customerRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Given two customers in database when find customer ids by emails then return ids and missing emails")
+    void givenTwoCustomersInDatabase_whenFindCustomerIdsByEmails_thenReturnIdsAndMissingEmails() {
+        when(customerRepository.findIdsByEmails(Set.of("plarson@gmail.com", "rbrown@gmail.com", "npatrick@gmail.com")))
+                .thenReturn(Map.of("plarson@gmail.com", customer1.getId(), "rbrown@gmail.com", customer2.getId()));
+
+        var customerEmailLookupResponse = customerService.findCustomerIdsByEmails(
+                List.of("RBrown@gmail.com", "npatrick@gmail.com", "plarson@gmail.com", "rbrown@gmail.com"));
+
+        assertThat(customerEmailLookupResponse.customers())
+                .containsExactly(
+                        new CustomerEmailResponse("rbrown@gmail.com", customer2.getId()),
+                        new CustomerEmailResponse("plarson@gmail.com", customer1.getId()));
+        assertThat(customerEmailLookupResponse.missingEmails())
+                .containsExactly("npatrick@gmail.com");
+    }
+
     @Test
     @DisplayName("Given one new customer when create customer then return created customer")
     void givenOneNewCustomer_whenCreateCustomer_thenReturnCreatedCustomer() {
@@ -189,29 +551,107 @@ class CustomerServiceImplTest {
                 .isEqualTo(customerResponseExpected);
 
         verify(customerRepository).save(any(Customer.class));
+        verify(customerOutbox).record(CustomerChangeType.CREATED, customer1.getId(), null, customerResponseExpected);
+    }
+
+    @Test
+    @DisplayName("Given valid, invalid and duplicated customers when create customers then return result of each one")
+    void givenValidInvalidAndDuplicatedCustomers_whenCreateCustomers_thenReturnResultOfEachOne() {
+        var invalidCustomerRequest = new CustomerRequest(
+                "Robert", "Brown", "rbrown_gmail.com", "+51 964429333", addressRequest);
+        when(transactionOperations.getIfAvailable(any())).thenReturn(TransactionOperations.withoutTransaction());
+        when(customerRepository.insertUnordered(anyList()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new BulkWriteError(DUPLICATE_KEY_ERROR_CODE, "duplicate key", new BsonDocument(), 0)));
+
+        var bulkCustomerResponse = customerService.createCustomers(
+                List.of(customerRequest, invalidCustomerRequest, customerRequest));
+
+        assertThat(bulkCustomerResponse.created())
+                .isEqualTo(1);
+        assertThat(bulkCustomerResponse.failed())
+                .isEqualTo(2);
+        assertThat(bulkCustomerResponse.items())
+                .extracting(BulkCustomerItemResponse::index, BulkCustomerItemResponse::status)
+                .containsExactly(
+                        tuple(0, CREATED),
+                        tuple(1, INVALID),
+                        tuple(2, CONFLICT));
+        assertThat(bulkCustomerResponse.items().get(1).message())
+                .startsWith("email: ");
+
+        verify(customerRepository, times(2)).insertUnordered(anyList());
+        verify(customerOutbox).recordAll(eq(CustomerChangeType.CREATED), argThat(customers -> customers.size() == 1));
+        verify(customerOutbox).recordAll(CustomerChangeType.CREATED, List.of());
+    }
+
+    @Test
+    @DisplayName("Given duplicated customer in transactional chunk when create customers then retry chunk without it")
+    void givenDuplicatedCustomerInTransactionalChunk_whenCreateCustomers_thenRetryChunkWithoutIt() {
+        when(bulkProperties.chunkSize()).thenReturn(3);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus(true));
+        when(transactionOperations.getIfAvailable(any())).thenReturn(new TransactionTemplate(transactionManager));
+        when(customerRepository.insertUnordered(anyList()))
+                .thenReturn(List.of(new BulkWriteError(DUPLICATE_KEY_ERROR_CODE, "duplicate key", new BsonDocument(), 1)))
+                .thenReturn(List.of());
+
+        var bulkCustomerResponse = customerService.createCustomers(
+                List.of(customerRequest, customerRequest, customerRequest));
+
+        assertThat(bulkCustomerResponse.items())
+                .extracting(BulkCustomerItemResponse::index, BulkCustomerItemResponse::status)
+                .containsExactly(
+                        tuple(0, CREATED),
+                        tuple(1, CONFLICT),
+                        tuple(2, CREATED));
+
+        verify(customerRepository).insertUnordered(argThat(customers -> customers.size() == 3));
+        verify(customerRepository).insertUnordered(argThat(customers -> customers.size() == 2));
+        verify(customerOutbox).recordAll(eq(CustomerChangeType.CREATED), argThat(customers -> customers.size() == 2));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Given more customers than allowed when create customers then return business error")
+    void givenMoreCustomersThanAllowed_whenCreateCustomers_thenReturnBusinessError() {
+        when(messageSource.getMessage(eq(CUSTOMER_BULK_MAX_ITEMS_EXCEEDED_KEY), any(), any(Locale.class)))
+                .thenReturn("Bulk request exceeds the limit of 3 customers");
+
+        assertThatThrownBy(() -> customerService.createCustomers(
+                List.of(customerRequest, customerRequest, customerRequest, customerRequest)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Bulk request exceeds the limit of 3 customers");
+
+        verify(customerRepository, never()).insertUnordered(anyList());
     }
 
     @Test
     @DisplayName("Given one customer in database to edit when update customer by id then return updated customer")
     void givenOneCustomerInDatabaseToEdit_whenUpdateCustomerById_thenReturnUpdatedCustomer() {
-        when(customerRepository.findById(anyString())).thenReturn(Optional.of(customer1));
-        when(customerRepository.save(any(Customer.class))).thenReturn(customer1);
+        customer1.setVersion(1);
+        when(customerRepository.findAndUpdateById(eq(customer1.getId()), isNull(), any(Update.class)))
+                .thenReturn(Optional.of(customer1));
 
         CustomerResponse customerResponse = customerService.updateCustomerById(
                 customer1.getId(), customerRequest);
 
         assertThat(customerResponse)
-                .isNotNull()
+                .usingRecursiveComparison()
+                .ignoringFields("version")
                 .isEqualTo(customerResponseExpected);
+        assertThat(customerResponse.version())
+                .isEqualTo(2);
 
-        verify(customerRepository).findById(anyString());
-        verify(customerRepository).save(any(Customer.class));
+        verify(customerRepository).findAndUpdateById(eq(customer1.getId()), isNull(), any(Update.class));
+        verify(customerRepository, never()).findById(anyString());
+        verify(customerRepository, never()).save(any(Customer.class));
+        verify(customerCache).evict(customer1.getId());
     }
 
     @Test
     @DisplayName("Given one customer is not in database when update customer by id then return customer not found")
     void givenOneCustomerIsNotInDatabase_whenUpdateCustomerById_thenReturnCustomerNotFound() {
-        when(customerRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(customerRepository.findAndUpdateById(anyString(), isNull(), any(Update.class))).thenReturn(Optional.empty());
         when(messageSource.getMessage(eq(CUSTOMER_NOT_FOUND_KEY), any(), any(Locale.class)))
                 .thenReturn("Customer with id 66aeee845291a2632f91d95a not found");
 
@@ -220,28 +660,127 @@ class CustomerServiceImplTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Customer with id 66aeee845291a2632f91d95a not found");
 
-        verify(customerRepository).findById(anyString());
-        verify(customerRepository, never()).save(any(Customer.class));
+        verify(customerRepository, never()).existsById(anyString());
         verify(messageSource).getMessage(anyString(), any(), any(Locale.class));
     }
 
+    @Test
+    @DisplayName("Given email changed when update customer by id then evict previous and new email")
+    void givenEmailChanged_whenUpdateCustomerById_thenEvictPreviousAndNewEmail() {
+        customer1.setEmail("pjohnson1980@gmail.com");
+        customerEmailCache.get("pjohnson1980@gmail.com", email -> Optional.of(customer1.getId()));
+        when(customerRepository.findAndUpdateById(eq(customer1.getId()), isNull(), any(Update.class)))
+                .thenReturn(Optional.of(customer1));
+        when(customerRepository.findIdByEmail("pjohnson1980@gmail.com")).thenReturn(Optional.empty());
+
+        customerService.updateCustomerById(customer1.getId(), customerRequest);
+
+        verify(customerEmailCache).evict("pjohnson1980@gmail.com");
+        verify(customerEmailCache).evict("plarson@gmail.com");
+        assertThat(customerEmailCache.get("pjohnson1980@gmail.com", customerRepository::findIdByEmail))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given stale version when update customer by id then return precondition failed")
+    void givenStaleVersion_whenUpdateCustomerById_thenReturnPreconditionFailed() {
+        when(customerRepository.findAndUpdateById(eq(customer1.getId()), eq(1), any(Update.class))).thenReturn(Optional.empty());
+        when(customerRepository.existsById(customer1.getId())).thenReturn(true);
+        when(messageSource.getMessage(eq(CUSTOMER_VERSION_MISMATCH_KEY), any(), any(Locale.class)))
+                .thenReturn("Customer with id 66aeee840271a2600f91d799 was modified by another request");
+
+        assertThatThrownBy(() -> customerService.updateCustomerById(customer1.getId(), customerRequest, 1))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("was modified by another request");
+
+        verify(customerRepository).existsById(customer1.getId());
+        verify(customerCache).evict(customer1.getId());
+        verify(customerOutbox, never()).record(any(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Given one customer in database to patch when patch customer by id then return patched customer")
+    void givenOneCustomerInDatabaseToPatch_whenPatchCustomerById_thenReturnPatchedCustomer() {
+        Map<String, Object> customerPatch = Map.of("address", Map.of("city", "California"));
+        customer1.setVersion(1);
+        when(customerPatchMapper.mapToUpdate(eq(customerPatch), any(Locale.class))).thenReturn(new Update().set("address.city", "California"));
+        when(customerRepository.findAndUpdateById(eq(customer1.getId()), isNull(), any(Update.class)))
+                .thenReturn(Optional.of(customer1));
+
+        CustomerResponse customerResponse = customerService.patchCustomerById(customer1.getId(), customerPatch);
+
+        assertThat(customerResponse)
+                .usingRecursiveComparison()
+                .ignoringFields("version")
+                .isEqualTo(customerResponseExpected);
+        assertThat(customerResponse.version())
+                .isEqualTo(2);
+
+        verify(customerPatchMapper).mergeCustomer(customerPatch, customer1);
+        verify(customerOutbox).record(CustomerChangeType.UPDATED, customer1.getId(), 2, customerResponse);
+        verify(customerCache).evict(customer1.getId());
+        verify(customerRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Given one customer is not in database when patch customer by id then return customer not found")
+    void givenOneCustomerIsNotInDatabase_whenPatchCustomerById_thenReturnCustomerNotFound() {
+        Map<String, Object> customerPatch = Map.of("firstName", "Peter");
+        when(customerPatchMapper.mapToUpdate(eq(customerPatch), any(Locale.class))).thenReturn(new Update().set("firstName", "Peter"));
+        when(customerRepository.findAndUpdateById(anyString(), isNull(), any(Update.class))).thenReturn(Optional.empty());
+        when(messageSource.getMessage(eq(CUSTOMER_NOT_FOUND_KEY), any(), any(Locale.class)))
+                .thenReturn("Customer with id 66aeee845291a2632f91d95a not found");
+
+        assertThatThrownBy(() -> customerService.patchCustomerById("66aeee845291a2632f91d95a", customerPatch))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Customer with id 66aeee845291a2632f91d95a not found");
+
+        verify(customerPatchMapper, never()).mergeCustomer(any(), any(Customer.class));
+        verify(customerRepository, never()).existsById(anyString());
+    }
+
     @Test
     @DisplayName("Given one customer in database when delete customer by id then remove customer")
     void givenOneCustomerInDatabase_whenDeleteCustomerById_thenRemoveCustomer() {
-        when(customerRepository.findById(anyString())).thenReturn(Optional.of(customer2));
-
-        doNothing().when(customerRepository).deleteById(anyString());
+        when(customerRepository.findAndDeleteById(customer2.getId(), null)).thenReturn(Optional.of(customer2));
 
         customerService.deleteCustomerById(customer2.getId());
 
-        verify(customerRepository).findById(anyString());
-        verify(customerRepository).deleteById(anyString());
+        verify(customerRepository).findAndDeleteById(customer2.getId(), null);
+        verify(customerRepository, never()).findById(anyString());
+        verify(customerOutbox).record(CustomerChangeType.DELETED, customer2.getId(), 1, null);
+        verify(customerEmailCache).evict(customer2.getEmail());
+    }
+
+    @Test
+    @DisplayName("Given stale version when delete customer by id then return precondition failed")
+    void givenStaleVersion_whenDeleteCustomerById_thenReturnPreconditionFailed() {
+        when(customerRepository.findAndDeleteById(customer2.getId(), 4)).thenReturn(Optional.empty());
+        when(customerRepository.existsById(customer2.getId())).thenReturn(true);
+        when(messageSource.getMessage(eq(CUSTOMER_VERSION_MISMATCH_KEY), any(), any(Locale.class)))
+                .thenReturn("Customer with id 66aeee845291a2632f91d95a was modified by another request");
+
+        assertThatThrownBy(() -> customerService.deleteCustomerById(customer2.getId(), 4))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("was modified by another request");
+
+        verify(customerOutbox, never()).record(any(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Given one customer is not cached when find customer version by id then read only the version")
+    void givenOneCustomerIsNotCached_whenFindCustomerVersionById_thenReadOnlyTheVersion() {
+        when(customerRepository.findVersionById(customer1.getId())).thenReturn(Optional.of(() -> 5));
+
+        assertThat(customerService.findCustomerVersionById(customer1.getId())).isEqualTo(5);
+
+        verify(customerRepository, never()).findById(anyString());
     }
 
     @Test
     @DisplayName("Given one customer is not in database when delete customer by id then return customer not found")
     void givenOneCustomerIsNotInDatabase_whenDeleteCustomerById_thenReturnCustomerNotFound() {
-        when(customerRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(customerRepository.findAndDeleteById(anyString(), isNull())).thenReturn(Optional.empty());
         when(messageSource.getMessage(eq(CUSTOMER_NOT_FOUND_KEY), any(), any(Locale.class)))
                 .thenReturn("Customer with id 66aeee840271a2600f91d79a not found");
 
@@ -249,8 +788,7 @@ class CustomerServiceImplTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Customer with id 66aeee840271a2600f91d79a not found");
 
-        verify(customerRepository).findById(anyString());
-        verify(customerRepository, never()).deleteById(anyString());
+        verify(customerRepository, never()).existsById(anyString());
         verify(messageSource).getMessage(anyString(), any(), any(Locale.class));
     }
 
@@ -0,0 +1,185 @@
+package com.company.ecommerce.customer.service.impl;
+
+import com.company.ecommerce.customer.dto.AddressRequest;
+import com.company.ecommerce.customer.dto.AddressResponse;
+import com.company.ecommerce.customer.dto.CustomerRequest;
+import com.company.ecommerce.customer.dto.CustomerResponse;
+import com.company.ecommerce.customer.entity.Address;
+import com.company.ecommerce.customer.entity.Customer;
+import com.company.ecommerce.customer.exception.ResourceNotFoundException;
+import com.company.ecommerce.customer.mapper.CustomerMapper;
+import com.company.ecommerce.customer.mapper.CustomerPatchMapper;
+import com.company.ecommerce.customer.repository.ReactiveCustomerRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_NOT_FOUND_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCustomerServiceImplTest {
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private ReactiveCustomerRepository reactiveCustomerRepository;
+
+    @Mock
+    private CustomerPatchMapper customerPatchMapper;
+
+    @Spy
+    private static CustomerMapper customerMapper;
+
+    @InjectMocks
+    private ReactiveCustomerServiceImpl reactiveCustomerService;
+
+    private Customer customer1;
+    private Customer customer2;
+    private CustomerRequest customerRequest;
+    private CustomerResponse customerResponseExpected;
+
+    @BeforeAll
+    static void setUpAll() {
+        customerMapper = Mappers.getMapper(CustomerMapper.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        var address = new Address();
+        address.setStreet("218 Newbury Street");
+        address.setCity("California");
+        address.setState("Florida");
+        address.setZipCode("16077");
+        address.setCountry("USA");
+
+        customer1 = new Customer();
+        customer1.setId("66aeee840271a2600f91d799");
+        customer1.setFirstName("Peter");
+        customer1.setLastName("Larson");
+        customer1.setEmail("plarson@gmail.com");
+        customer1.setPhoneNumber("+51 962329330");
+        customer1.setAddress(address);
+
+        customer2 = new Customer();
+        customer2.setId("66aeee840271a2600f91d79a");
+        customer2.setFirstName("Robert");
+        customer2.setLastName("Brown");
+        customer2.setEmail("rbrown@gmail.com");
+        customer2.setPhoneNumber("+51 964429333");
+        customer2.setAddress(address);
+
+        customerRequest = new CustomerRequest(
+                "Peter",
+                "Larson",
+                "plarson@gmail.com",
+                "+51 962329330",
+                new AddressRequest("218 Newbury Street", "California", "Florida", "16077", "USA")
+        );
+
+        customerResponseExpected = new CustomerResponse(
+                "66aeee840271a2600f91d799",
+                "Peter",
+                "Larson",
+                "plarson@gmail.com",
+                "+51 962329330",
+                new AddressResponse("218 Newbury Street", "California", "Florida", "16077", "USA")
+        );
+    }
+
+    @Test
+    @DisplayName("Given two customers in database when find all customers then stream the customers on demand")
+    void givenTwoCustomersInDatabase_whenFindAllCustomers_thenStreamTheCustomersOnDemand() {
+        when(reactiveCustomerRepository.findAllByOrderByIdAsc()).thenReturn(Flux.just(customer1, customer2));
+
+        StepVerifier.create(reactiveCustomerService.findAllCustomers(), 1)
+                .expectNext(customerResponseExpected)
+                .thenRequest(1)
+                .expectNextMatches(customerResponse -> customerResponse.id().equals(customer2.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Given one customer is not in database when find customer by id then return customer not found")
+    void givenOneCustomerIsNotInDatabase_whenFindCustomerById_thenReturnCustomerNotFound() {
+        when(reactiveCustomerRepository.findById(anyString())).thenReturn(Mono.empty());
+        when(messageSource.getMessage(eq(CUSTOMER_NOT_FOUND_KEY), any(), any(Locale.class)))
+                .thenReturn("Customer with id 66aeee845291a2632f91d95a not found");
+
+        StepVerifier.create(reactiveCustomerService.findCustomerById("66aeee845291a2632f91d95a", Locale.ENGLISH))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(ResourceNotFoundException.class)
+                        .hasMessageContaining("Customer with id 66aeee845291a2632f91d95a not found"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Given one customer in database to edit when update customer by id then return updated customer")
+    void givenOneCustomerInDatabaseToEdit_whenUpdateCustomerById_thenReturnUpdatedCustomer() {
+        when(reactiveCustomerRepository.updateById(eq(customer1.getId()), any(Update.class))).thenReturn(Mono.just(customer1));
+
+        StepVerifier.create(reactiveCustomerService.updateCustomerById(
+                        customer1.getId(), customerRequest, Locale.ENGLISH))
+                .expectNext(customerResponseExpected)
+                .verifyComplete();
+
+        verify(reactiveCustomerRepository).updateById(eq(customer1.getId()), any(Update.class));
+    }
+
+    @Test
+    @DisplayName("Given request locale when patch customer by id then map the patch with the request locale")
+    void givenRequestLocale_whenPatchCustomerById_thenMapThePatchWithTheRequestLocale() {
+        var customerPatch = Map.<String, Object>of("firstName", "Peter");
+        when(customerPatchMapper.mapToUpdate(customerPatch, Locale.of("es"))).thenReturn(new Update().set("firstName", "Peter"));
+        when(reactiveCustomerRepository.updateById(eq(customer1.getId()), any(Update.class))).thenReturn(Mono.just(customer1));
+
+        StepVerifier.create(reactiveCustomerService.patchCustomerById(customer1.getId(), customerPatch, Locale.of("es")))
+                .expectNext(customerResponseExpected)
+                .verifyComplete();
+
+        verify(customerPatchMapper).mapToUpdate(customerPatch, Locale.of("es"));
+    }
+
+    @Test
+    @DisplayName("Given one customer is not in database when delete customer by id then return customer not found")
+    void givenOneCustomerIsNotInDatabase_whenDeleteCustomerById_thenReturnCustomerNotFound() {
+        when(reactiveCustomerRepository.deleteCustomerById(anyString())).thenReturn(Mono.just(0L));
+        when(messageSource.getMessage(eq(CUSTOMER_NOT_FOUND_KEY), any(), any(Locale.class)))
+                .thenReturn("Customer with id 66aeee840271a2600f91d79a not found");
+
+        StepVerifier.create(reactiveCustomerService.deleteCustomerById("66aeee840271a2600f91d79a", Locale.ENGLISH))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Given one customer in database when delete customer by id then complete")
+    void givenOneCustomerInDatabase_whenDeleteCustomerById_thenComplete() {
+        when(reactiveCustomerRepository.deleteCustomerById(anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(reactiveCustomerService.deleteCustomerById(customer2.getId(), Locale.ENGLISH))
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.company.ecommerce.customer.validation;
+
+import jakarta.validation.MessageInterpolator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.util.Locale;
+
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_FIRSTNAME_REQUIRED_KEY;
+import static com.company.ecommerce.customer.constant.CommonConstant.CUSTOMER_PHONE_NUMBER_INVALID_FORMAT_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingMessageInterpolatorTest {
+
+    private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+    @Mock
+    private MessageInterpolator delegate;
+
+    @Mock
+    private MessageInterpolator.Context context;
+
+    private CachingMessageInterpolator cachingMessageInterpolator;
+
+    @BeforeEach
+    void setUp() {
+        var messageSource = new StaticMessageSource();
+        messageSource.addMessage("message.customer.first-name.required", Locale.ENGLISH, "Firstname is required");
+        messageSource.addMessage("message.customer.first-name.required", SPANISH, "Nombre es requerido");
+        messageSource.addMessage("message.customer.phone-number.invalid-format", Locale.ENGLISH,
+                "Phone number '${validatedValue}' has invalid format");
+        cachingMessageInterpolator = new CachingMessageInterpolator(delegate, messageSource);
+    }
+
+    @Test
+    @DisplayName("Given one constant message when interpolate twice then resolve it once per locale")
+    void givenOneConstantMessage_whenInterpolateTwice_thenResolveItOncePerLocale() {
+        when(delegate.interpolate(CUSTOMER_FIRSTNAME_REQUIRED_KEY, context, Locale.ENGLISH))
+                .thenReturn("Firstname is required");
+        when(delegate.interpolate(CUSTOMER_FIRSTNAME_REQUIRED_KEY, context, SPANISH))
+                .thenReturn("Nombre es requerido");
+
+        cachingMessageInterpolator.interpolate(CUSTOMER_FIRSTNAME_REQUIRED_KEY, context, Locale.ENGLISH);
+        var englishMessage = cachingMessageInterpolator.interpolate(CUSTOMER_FIRSTNAME_REQUIRED_KEY, context,
+                Locale.ENGLISH);
+        var spanishMessage = cachingMessageInterpolator.interpolate(CUSTOMER_FIRSTNAME_REQUIRED_KEY, context, SPANISH);
+
+        assertThat(englishMessage).isEqualTo("Firstname is required");
+        assertThat(spanishMessage).isEqualTo("Nombre es requerido");
+        verify(delegate, times(1)).interpolate(CUSTOMER_FIRSTNAME_REQUIRED_KEY, context, Locale.ENGLISH);
+    }
+
+    @Test
+    @DisplayName("Given one message with the validated value when interpolate twice then resolve it every time")
+    void givenOneMessageWithTheValidatedValue_whenInterpolateTwice_thenResolveItEveryTime() {
+        when(delegate.interpolate(CUSTOMER_PHONE_NUMBER_INVALID_FORMAT_KEY, context, Locale.ENGLISH))
+                .thenReturn("Phone number '962-329-330' has invalid format", "Phone number '962' has invalid format");
+
+        cachingMessageInterpolator.interpolate(CUSTOMER_PHONE_NUMBER_INVALID_FORMAT_KEY, context, Locale.ENGLISH);
+        var message = cachingMessageInterpolator.interpolate(CUSTOMER_PHONE_NUMBER_INVALID_FORMAT_KEY, context,
+                Locale.ENGLISH);
+
+        assertThat(message).isEqualTo("Phone number '962' has invalid format");
+        verify(delegate, times(2)).interpolate(CUSTOMER_PHONE_NUMBER_INVALID_FORMAT_KEY, context, Locale.ENGLISH);
+    }
+
+}